@@ -2,7 +2,9 @@ package com.example.demo.common;
 
 import com.example.demo.board.BoardService;
 import com.example.demo.common.dto.ApiResponse;
+import com.example.demo.riot.resilience.RiotUnavailableException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -10,6 +12,8 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.time.LocalDateTime;
@@ -105,6 +109,46 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("요청한 리소스를 찾을 수 없습니다"));
     }
     
+    /**
+     * Riot API 보호로 바로 실패한 경우 (서킷 OPEN / 동시 호출 초과)
+     */
+    @ExceptionHandler(RiotUnavailableException.class)
+    public ResponseEntity<ApiResponse<String>> handleRiotUnavailableException(
+            RiotUnavailableException ex, WebRequest request) {
+        
+        log.warn("Riot API 요청 거절: route={}, {}", ex.getRoute().getTag(), ex.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+    
+    /**
+     * 상태 코드를 지정해서 던진 예외 (Riot 플레이어/경기 없음 등) - 지정한 상태 그대로 응답
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ApiResponse<String>> handleResponseStatusException(
+            ResponseStatusException ex, WebRequest request) {
+        
+        log.warn("요청 실패: {} {}", ex.getStatusCode().value(), ex.getReason());
+        
+        return ResponseEntity.status(ex.getStatusCode())
+                .body(ApiResponse.error(ex.getReason() != null ? ex.getReason() : "요청을 처리할 수 없습니다"));
+    }
+    
+    /**
+     * 비동기 요청 시간 초과 (Riot 조회가 riot.async.timeout-ms 안에 끝나지 않음)
+     */
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    public ResponseEntity<ApiResponse<String>> handleAsyncRequestTimeoutException(
+            AsyncRequestTimeoutException ex, WebRequest request) {
+        
+        log.warn("비동기 요청 시간 초과");
+        
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(ApiResponse.error("Riot API 응답이 늦어지고 있습니다. 잠시 후 다시 시도해주세요"));
+    }
+    
     /**
      * 일반적인 예외 처리 (수정됨)
      */
@@ -0,0 +1,43 @@
+package com.example.demo.configuration;
+
+import com.example.demo.riot.RiotRegion;
+import com.example.demo.riot.RiotRegionRouting;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * 지역별 HTTP 클라이언트로 요청을 나눠 보내는 팩토리
+ *
+ * 요청 URL 호스트로 지역을 찾아서 그 지역 전용 커넥션 풀을 쓴다.
+ * 한 지역이 느려서 커넥션을 오래 잡고 있어도 다른 지역 풀은 영향받지 않음
+ */
+class RegionRoutingRequestFactory implements ClientHttpRequestFactory, DisposableBean {
+
+    private final RiotRegionRouting regionRouting;
+    private final Map<RiotRegion, HttpComponentsClientHttpRequestFactory> factories;
+
+    RegionRoutingRequestFactory(RiotRegionRouting regionRouting,
+                                Map<RiotRegion, HttpComponentsClientHttpRequestFactory> factories) {
+        this.regionRouting = regionRouting;
+        this.factories = factories;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return factories.get(regionRouting.regionOf(uri)).createRequest(uri, httpMethod);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (HttpComponentsClientHttpRequestFactory factory : factories.values()) {
+            factory.destroy();
+        }
+    }
+}
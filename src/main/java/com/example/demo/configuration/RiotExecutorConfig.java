@@ -0,0 +1,99 @@
+package com.example.demo.configuration;
+
+import com.example.demo.riot.RiotRegion;
+import com.example.demo.riot.RiotRoute;
+import com.example.demo.riot.resilience.RiotUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Riot API 병렬 호출용 스레드 풀 설정
+ *
+ * - riotFetchExecutors: 경기 ID/상세 조회(페이지 선조회 포함), 지역마다 별도 풀 (풀 크기 = 지역별 bulkhead 상한)
+ *   대기열이 가득 차면 기다리지 않고 RiotUnavailableException(503) - 요청 스레드가 join()에서 무한정 막히지 않도록
+ * - riotStreamExecutor: 스트리밍 응답의 전체 흐름 진행용 (조회 작업을 기다리므로 조회 풀과 분리)
+ * - riotRequestExecutor: 비동기 컨트롤러의 전적 조회 흐름 진행용 - Tomcat 스레드 대신 여기서 Riot 응답을 기다림
+ *   대기열이 가득 차면 요청을 받는 시점에 바로 503 (대기열이 끝없이 쌓여 전부 시간 초과되는 대신)
+ */
+@Configuration
+public class RiotExecutorConfig {
+
+    @Value("${riot.fetch.global-concurrency:${riot.bulkhead.max-concurrent:32}}")
+    private int globalConcurrency;
+
+    @Value("${riot.fetch.queue-capacity:1024}")
+    private int fetchQueueCapacity; // 요청 풀 크기 × 요청당 동시 조회 수(로비 12)를 덮는 크기 - 평소에는 거절 없음
+
+    @Value("${riot.stream.max-concurrent:32}")
+    private int maxConcurrentStreams;
+
+    @Value("${riot.async.max-concurrent:64}")
+    private int maxConcurrentRequests;
+
+    @Value("${riot.async.queue-capacity:256}")
+    private int requestQueueCapacity;
+
+    @Bean(destroyMethod = "shutdown")
+    public RiotRegionExecutors riotFetchExecutors() {
+        Map<RiotRegion, ExecutorService> executors = new EnumMap<>(RiotRegion.class);
+        for (RiotRegion region : RiotRegion.values()) {
+            executors.put(region, newBoundedPool("riot-fetch-" + region.getTag() + "-", globalConcurrency,
+                    fetchQueueCapacity, "Riot 조회 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요"));
+        }
+        return new RiotRegionExecutors(executors);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService riotStreamExecutor() {
+        return newPool("riot-stream-", maxConcurrentStreams);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService riotRequestExecutor() {
+        return newBoundedPool("riot-request-", maxConcurrentRequests, requestQueueCapacity,
+                "Riot 조회 요청이 너무 많습니다. 잠시 후 다시 시도해주세요");
+    }
+
+    private static ExecutorService newPool(String namePrefix, int size) {
+        return newPool(namePrefix, size, new LinkedBlockingQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 대기열 크기가 정해진 풀 - 가득 차면 submit 시점에 RiotUnavailableException (503 + Retry-After)
+     */
+    private static ExecutorService newBoundedPool(String namePrefix, int size, int queueCapacity, String rejectMessage) {
+        return newPool(namePrefix, size, new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                (runnable, executor) -> {
+                    throw new RiotUnavailableException(RiotRoute.OTHER, rejectMessage, 1);
+                });
+    }
+
+    private static ExecutorService newPool(String namePrefix, int size, BlockingQueue<Runnable> queue,
+                                           RejectedExecutionHandler rejectionHandler) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                size, size,
+                60L, TimeUnit.SECONDS,
+                queue,
+                runnable -> {
+                    Thread thread = new Thread(runnable, namePrefix + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                rejectionHandler);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.configuration;
+
+import com.example.demo.riot.RiotRegion;
+
+import com.example.demo.riot.ratelimit.RiotBackgroundCalls;
+import com.example.demo.riot.resilience.RiotUnavailableException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * 지역별 Riot 조회 스레드 풀 묶음
+ *
+ * 한 지역 호출이 느려져서 조회 스레드가 전부 묶여도 다른 지역 조회는 자기 풀에서 계속 진행된다.
+ */
+public class RiotRegionExecutors {
+
+    private final Map<RiotRegion, ExecutorService> executors;
+
+    RiotRegionExecutors(Map<RiotRegion, ExecutorService> executors) {
+        this.executors = executors;
+    }
+
+    public ExecutorService forRegion(RiotRegion region) {
+        return executors.get(region);
+    }
+
+    /**
+     * 지역 풀에서 작업 실행 - 대기열이 가득 차서 거절되면 던지지 않고 실패한 future로 돌려줌
+     * (호출 쪽의 부분 실패 처리/세마포어 반환 흐름을 그대로 타도록)
+     * 백그라운드 작업에서 제출하면 그 표시도 함께 넘김 (백그라운드 호출 한도 계산용)
+     */
+    public <T> CompletableFuture<T> supply(RiotRegion region, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(RiotBackgroundCalls.propagate(task), forRegion(region));
+        } catch (RiotUnavailableException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public void shutdown() {
+        executors.values().forEach(ExecutorService::shutdown);
+    }
+}
@@ -1,12 +1,35 @@
 package com.example.demo.configuration;
 
+import com.example.demo.riot.RiotRegion;
+import com.example.demo.riot.RiotRegionRouting;
+import com.example.demo.riot.metrics.RiotClientMetricsInterceptor;
+import com.example.demo.riot.ratelimit.RiotRateLimitInterceptor;
+import com.example.demo.riot.resilience.RiotBulkheadInterceptor;
+import com.example.demo.riot.resilience.RiotCircuitBreakerInterceptor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Arrays; // ← Arrays.asList 사용
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
 
 @Configuration
 public class RiotRestTemplateConfig {
@@ -14,23 +37,96 @@ public class RiotRestTemplateConfig {
     @Value("${riot.api-key}")
     private String apiKey;
 
+    @Value("${riot.http.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${riot.http.max-connections-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${riot.http.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${riot.http.read-timeout-ms:5000}")
+    private long readTimeoutMs;
+
+    @Value("${riot.http.pool-wait-timeout-ms:3000}")
+    private long poolWaitTimeoutMs;
+
+    @Value("${riot.http.idle-eviction-seconds:30}")
+    private long idleEvictionSeconds;
+
+    /**
+     * Riot 전용 HTTP 요청 팩토리 - 지역마다 별도 HTTP 클라이언트 (Apache HttpClient 5)
+     *
+     * - 커넥션 풀 + keep-alive: 호출마다 TCP/TLS 핸드셰이크를 다시 하지 않음
+     * - 풀은 지역별로 분리 (max-connections도 지역마다), 연결/응답 타임아웃
+     * - Accept-Encoding: gzip 자동 추가 + 응답 스트리밍 해제 (HttpClient 기본 동작)
+     * - 오래 쉰 커넥션은 백그라운드에서 정리
+     * - 풀 사용량은 riot.http.pool.leased / riot.http.pool.available (region 태그)
+     */
+    @Bean
+    public RegionRoutingRequestFactory riotRequestFactory(RiotRegionRouting regionRouting, MeterRegistry meterRegistry) {
+        Map<RiotRegion, HttpComponentsClientHttpRequestFactory> factories = new EnumMap<>(RiotRegion.class);
+        for (RiotRegion region : RiotRegion.values()) {
+            PoolingHttpClientConnectionManager connectionManager = newConnectionManager();
+            registerPoolGauge(meterRegistry, "riot.http.pool.leased", region, connectionManager, PoolStats::getLeased);
+            registerPoolGauge(meterRegistry, "riot.http.pool.available", region, connectionManager, PoolStats::getAvailable);
+            factories.put(region, new HttpComponentsClientHttpRequestFactory(newHttpClient(connectionManager)));
+        }
+        return new RegionRoutingRequestFactory(regionRouting, factories);
+    }
+
     @Bean
-    public RestTemplate riotRestTemplate() {
-        RestTemplate rt = new RestTemplate();
-
-        // 로깅 인터셉터: 외부 호출/응답 코드 확인
-        ClientHttpRequestInterceptor logging = (req, body, exec) -> {
-            long t0 = System.currentTimeMillis();
-            System.out.println("[RIOT OUT] " + req.getMethod() + " " + req.getURI());
-            var resp = exec.execute(req, body);
-            System.out.println("[RIOT IN ] " + resp.getStatusCode() + " (" + (System.currentTimeMillis() - t0) + "ms)");
-            return resp;
-        };
-
-        // 로깅 인터셉터만 등록 (API 키는 Query Parameter로 직접 전달)
-        rt.setInterceptors(Arrays.asList(logging));
+    public RestTemplate riotRestTemplate(ClientHttpRequestFactory riotRequestFactory,
+                                         RiotBulkheadInterceptor bulkheadInterceptor,
+                                         RiotRateLimitInterceptor rateLimitInterceptor,
+                                         RiotCircuitBreakerInterceptor circuitBreakerInterceptor,
+                                         RiotClientMetricsInterceptor metricsInterceptor) {
+        // 서킷 결과 기록 → 지표는 시도마다 새로 만드는 요청 안쪽에서 실행
+        // RestTemplate 인터셉터 체인은 요청 하나에 한 번만 돌아서, 429 재시도로 execute를 다시 부르면
+        // 뒤쪽 인터셉터를 건너뛰고 팩토리로 바로 간다 - 팩토리를 감싸면 재시도도 매번 서킷/지표를 거침
+        ClientHttpRequestFactory perAttempt = new InterceptingClientHttpRequestFactory(riotRequestFactory,
+                List.of(circuitBreakerInterceptor, metricsInterceptor));
+        RestTemplate rt = new RestTemplate(perAttempt);
+
+        // 서킷/동시 호출 자리 → 호출 한도(429 재시도) 순서로 등록 (API 키는 Query Parameter로 직접 전달)
+        // 호출 로그는 남기지 않음 - 응답 시간/상태 코드는 riot.client.requests 지표로 확인
+        rt.setInterceptors(Arrays.asList(bulkheadInterceptor, rateLimitInterceptor));
         return rt;
     }
+
+    private PoolingHttpClientConnectionManager newConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+    }
+
+    private CloseableHttpClient newHttpClient(PoolingHttpClientConnectionManager connectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictionSeconds))
+                .build();
+    }
+
+    private static void registerPoolGauge(MeterRegistry registry, String name, RiotRegion region,
+                                          PoolingHttpClientConnectionManager connectionManager,
+                                          ToDoubleFunction<PoolStats> value) {
+        Gauge.builder(name, connectionManager, manager -> value.applyAsDouble(manager.getTotalStats()))
+                .tag("region", region.getTag())
+                .register(registry);
+    }
     
     /**
      * API 키를 Query Parameter로 추가하는 헬퍼 메서드
@@ -0,0 +1,26 @@
+package com.example.demo.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업 활성화 (게임 데이터 스냅샷 교체 감지, 컬럼 저장소 flush, 추적 플레이어 갱신)
+ *
+ * 기본 스케줄러는 스레드 하나라서 Riot 응답을 기다리는 추적 갱신이 다른 작업을 밀어낸다.
+ * 작업 수만큼 스레드를 둬서 서로 기다리지 않게 함 (@EnableScheduling은 taskScheduler 빈을 사용)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${riot.scheduling.pool-size:3}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("riot-scheduler-");
+        return scheduler;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.configuration;
 
 import com.example.demo.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,6 +36,11 @@ public class SecurityConfig {
             
             // 인증/인가 규칙 설정
             .authorizeHttpRequests(authz -> authz
+                // 비동기 응답 재디스패치 (SSE 스트림 등)
+                // JWT 필터는 OncePerRequestFilter라 ASYNC 디스패치에서 다시 돌지 않고, 세션도 없어서
+                // 인증 정보가 남아 있지 않음 - 원래 요청에서 이미 인증/인가를 마쳤으므로 허용
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                
                 // 인증 없이 접근 가능한 엔드포인트
                 .requestMatchers(
                     "/api/auth/**",           // 회원가입, 로그인
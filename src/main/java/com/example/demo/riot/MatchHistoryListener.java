@@ -0,0 +1,24 @@
+package com.example.demo.riot;
+
+import com.example.demo.riot.dto.AccountResponse;
+import com.example.demo.riot.dto.MatchDetailResponse;
+import com.example.demo.riot.dto.MatchStatsResponse;
+
+/**
+ * 📡 전적 조회 진행 상황 콜백 (스트리밍 응답용)
+ *
+ * onMatch / onMatchFailed는 조회 스레드에서 완료 순서대로 호출된다.
+ */
+public interface MatchHistoryListener {
+
+    void onAccount(AccountResponse account);
+
+    /**
+     * @param index 최신 경기 기준 순번 (0 = 가장 최근)
+     */
+    void onMatch(int index, MatchDetailResponse match);
+
+    void onMatchFailed(int index, String matchId);
+
+    void onStats(MatchStatsResponse stats);
+}
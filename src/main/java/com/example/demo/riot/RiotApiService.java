@@ -1,24 +1,64 @@
 package com.example.demo.riot;
 
+import com.example.demo.configuration.RiotRegionExecutors;
 import com.example.demo.configuration.RiotRestTemplateConfig;
+import com.example.demo.riot.analytics.ChampionAggregate;
+import com.example.demo.riot.analytics.ChampionAnalytics;
+import com.example.demo.riot.archive.MatchArchive;
+import com.example.demo.riot.cache.AccountCache;
+import com.example.demo.riot.cache.HistoryCache;
+import com.example.demo.riot.cache.RiotRequestCoalescer;
+import com.example.demo.riot.cache.TtlCache;
+import com.example.demo.riot.columnar.ColumnarMatchStore;
+import com.example.demo.riot.columnar.WindowStats;
 import com.example.demo.riot.dto.*;
+import com.example.demo.riot.gamedata.GameDataRegistry;
+import com.example.demo.riot.index.ParticipantIndex;
+import com.example.demo.riot.parser.MatchPayloadParser;
+import com.example.demo.riot.parser.MatchSummary;
+import com.example.demo.riot.parser.MatchTimeline;
+import com.example.demo.riot.parser.MatchTimelineParser;
+import com.example.demo.riot.parser.ParticipantStats;
+import com.example.demo.riot.resilience.RiotUnavailableException;
+import com.example.demo.riot.stats.MatchStatsCalculator;
+import com.example.demo.riot.stats.PlayerStatsAggregator;
+import com.example.demo.riot.sync.MatchHistorySync;
+import com.example.demo.riot.timeline.TimelineStore;
+import com.example.demo.riot.tracking.TrackedPlayer;
+import com.example.demo.riot.tracking.TrackedPlayerRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 
 /**
  * 🎮 Riot API 서비스 - 핵심 기능만
@@ -35,9 +75,38 @@ public class RiotApiService {
 
     private final RestTemplate riotRestTemplate;
     private final RiotRestTemplateConfig riotConfig;
+    private final RiotRegionExecutors riotFetchExecutors;
+    private final ExecutorService riotRequestExecutor;
+    private final MatchArchive matchArchive;
+    private final AccountCache accountCache;
+    private final HistoryCache historyCache;
+    private final MatchPayloadParser matchPayloadParser;
+    private final MatchTimelineParser timelineParser;
+    private final TimelineStore timelineStore;
+    private final ParticipantIndex participantIndex;
+    private final MatchHistorySync matchHistorySync;
+    private final RiotRequestCoalescer requestCoalescer;
+    private final GameDataRegistry gameData;
+    private final TrackedPlayerRegistry trackedPlayers;
+    private final PlayerStatsAggregator statsAggregator;
+    private final ColumnarMatchStore columnarStore;
+    private final ChampionAnalytics championAnalytics;
+    private final RiotRegionRouting regionRouting;
 
-    @Value("${riot.platform-route}")
-    private String regionalRoute; // asia
+    @Value("${riot.fetch.per-request-concurrency:4}")
+    private int perRequestConcurrency; // 요청 하나가 동시에 진행할 수 있는 경기 상세 조회 수
+
+    @Value("${riot.fetch.batch-concurrency:8}")
+    private int batchConcurrency; // 여러 플레이어 조회 한 건이 동시에 진행할 수 있는 경기 상세 조회 수
+
+    @Value("${riot.fetch.lobby-concurrency:12}")
+    private int lobbyConcurrency; // 로비 스카우팅 한 건이 참가자 10명 통틀어 동시에 진행할 수 있는 경기 상세 조회 수
+
+    @Value("${riot.paging.prefetch-pages:1}")
+    private int prefetchPages; // 현재 페이지를 보는 동안 미리 받아둘 다음 페이지 수
+
+    // 선조회한 페이지 경기 ID (region:puuid:start:size → 진행 중이거나 끝난 조회)
+    private final TtlCache<String, CompletableFuture<List<String>>> prefetchedPages = new TtlCache<>(1000, 300_000L);
 
     /**
      * 🎯 메인 메서드: 플레이어 완전한 전적 조회
@@ -45,24 +114,129 @@ public class RiotApiService {
      * 동작:
      * 1. 플레이어 기본 정보 조회 (PUUID 획득)
      * 2. 최근 경기 ID 목록 조회
-     * 3. 각 경기의 상세 전적 조회 (진짜 전적!)
+     * 3. 각 경기의 상세 전적 조회 (진짜 전적!) - 병렬 조회, 순서 유지
      * 4. 통계 계산 (승률, 평균 KDA 등)
+     * 
+     * 추적 중인 플레이어는 백그라운드에서 갱신해 둔 전적이 최신이면 Riot 호출 없이 바로 응답
+     * 그 외에는 전적 캐시(stale-while-revalidate)를 거침
+     * region: 플레이어가 속한 지역 (경기 목록 호출 지역, 경기 상세는 경기 ID로 지역이 정해짐)
+     */
+    public PlayerMatchHistoryResponse getPlayerMatchHistory(String gameName, String tagLine, RiotRegion region, int count) {
+        TrackedPlayer tracked = trackedPlayers.recordRequest(gameName, tagLine, region, count);
+        Optional<PlayerMatchHistoryResponse> prepared = trackedPlayers.freshHistory(tracked, count);
+        if (prepared.isPresent()) {
+            return trimHistory(prepared.get(), count);
+        }
+        
+        // 최근에 조회한 전적은 바로 응답 (오래됐으면 백그라운드 갱신)
+        return historyCache.get(HistoryCache.key(gameName, tagLine, region, count), () -> {
+            PlayerMatchHistoryResponse history = loadPlayerMatchHistory(gameName, tagLine, region, count);
+            if (count >= tracked.getCount()) {
+                tracked.update(history, count, System.currentTimeMillis());
+            }
+            return history;
+        });
+    }
+
+    /**
+     * ⚡ 비동기 조회 - 비동기 컨트롤러용 (Riot 응답은 riotRequestExecutor 스레드가 기다림)
+     * 
+     * 호출한 스레드(Tomcat 워커)는 바로 돌아가고, 결과/예외는 CompletableFuture로 전달된다.
+     */
+    public CompletableFuture<PlayerMatchHistoryResponse> getPlayerMatchHistoryAsync(String gameName, String tagLine,
+                                                                                    RiotRegion region, int count) {
+        return async(() -> getPlayerMatchHistory(gameName, tagLine, region, count));
+    }
+
+    public CompletableFuture<MatchHistoryPageResponse> getPlayerMatchPageAsync(String gameName, String tagLine,
+                                                                               RiotRegion region, String cursor, int size) {
+        return async(() -> getPlayerMatchPage(gameName, tagLine, region, cursor, size));
+    }
+
+    public CompletableFuture<BatchMatchHistoryResponse> getBatchMatchHistoryAsync(List<RiotIdRequest> players, int count) {
+        return async(() -> getBatchMatchHistory(players, count));
+    }
+
+    public CompletableFuture<TimelineStatsResponse> getPlayerTimelineStatsAsync(String gameName, String tagLine,
+                                                                                RiotRegion region, int count, int minute) {
+        return async(() -> getPlayerTimelineStats(gameName, tagLine, region, count, minute));
+    }
+
+    public CompletableFuture<LobbyFormResponse> getLobbyFormAsync(String matchId, int count) {
+        return async(() -> getLobbyForm(matchId, count));
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> pipeline) {
+        return CompletableFuture.supplyAsync(pipeline, riotRequestExecutor);
+    }
+
+    /**
+     * ⏱️ 추적 플레이어 백그라운드 갱신 (TrackedPlayerRefresher에서 호출)
+     */
+    public void refreshTrackedPlayer(TrackedPlayer player) {
+        int count = player.getCount();
+        PlayerMatchHistoryResponse history = loadPlayerMatchHistory(
+                player.getGameName(), player.getTagLine(), player.getRegion(), count);
+        player.update(history, count, System.currentTimeMillis());
+    }
+
+    /**
+     * 🔧 헬퍼: 보관 전적을 요청 경기 수만큼 잘라서 통계 다시 계산
+     * 
+     * 성공/실패 경기를 합쳐 최신 count개만 남김 (둘 다 최신순, 같은 플랫폼의 경기 ID 숫자는 시간순으로 커짐)
      */
-    public PlayerMatchHistoryResponse getPlayerMatchHistory(String gameName, String tagLine, int count) {
+    private PlayerMatchHistoryResponse trimHistory(PlayerMatchHistoryResponse history, int count) {
+        List<MatchDetailResponse> allMatches = history.getMatches();
+        List<String> allFailed = history.getFailedMatchIds() != null ? history.getFailedMatchIds() : List.of();
+        if (allMatches.size() + allFailed.size() <= count) {
+            return history;
+        }
+        List<MatchDetailResponse> matches = new ArrayList<>(count);
+        List<String> failedMatchIds = new ArrayList<>();
+        int m = 0;
+        int f = 0;
+        while (matches.size() + failedMatchIds.size() < count) {
+            boolean takeMatch = f >= allFailed.size() || (m < allMatches.size()
+                    && gameNumber(allMatches.get(m).getMatchId()) >= gameNumber(allFailed.get(f)));
+            if (takeMatch) {
+                matches.add(allMatches.get(m++));
+            } else {
+                failedMatchIds.add(allFailed.get(f++));
+            }
+        }
+        return PlayerMatchHistoryResponse.builder()
+                .player(history.getPlayer())
+                .matches(matches)
+                .stats(calculateMatchStats(matches))
+                .failedMatchIds(failedMatchIds)
+                .build();
+    }
+
+    private static long gameNumber(String matchId) {
+        try {
+            return Long.parseLong(matchId.substring(matchId.lastIndexOf('_') + 1));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * 🔧 헬퍼: 전적 조회 파이프라인 (계정 → 경기 ID → 상세 → 통계)
+     */
+    private PlayerMatchHistoryResponse loadPlayerMatchHistory(String gameName, String tagLine, RiotRegion region, int count) {
         try {
             // 1. 플레이어 기본 정보
-            AccountResponse account = getAccountByRiotId(gameName, tagLine);
+            AccountResponse account = getAccountByRiotId(gameName, tagLine, region);
             log.info("플레이어 정보 획득: PUUID={}", account.getPuuid());
             
             // 2. 최근 경기 ID 목록
-            List<String> matchIds = getRecentMatchIds(account.getPuuid(), count);
+            List<String> matchIds = getRecentMatchIds(region, account.getPuuid(), count);
             log.info("경기 ID {} 개 조회 완료", matchIds.size());
             
-            // 3. 🔥 핵심: 각 경기의 실제 전적 조회
-            List<MatchDetailResponse> matches = matchIds.stream()
-                    .map(matchId -> getMatchDetail(matchId, account.getPuuid()))
-                    .collect(Collectors.toList());
-            log.info("상세 전적 {} 경기 분석 완료", matches.size());
+            // 3. 🔥 핵심: 각 경기의 실제 전적 조회 (병렬)
+            List<String> failedMatchIds = new ArrayList<>();
+            List<MatchDetailResponse> matches = fetchMatchDetails(matchIds, account.getPuuid(), failedMatchIds, null);
+            log.info("상세 전적 {} 경기 분석 완료 (실패 {} 경기)", matches.size(), failedMatchIds.size());
             
             // 4. 통계 계산
             MatchStatsResponse stats = calculateMatchStats(matches);
@@ -71,8 +245,11 @@ public class RiotApiService {
                     .player(account)
                     .matches(matches)
                     .stats(stats)
+                    .failedMatchIds(failedMatchIds)
                     .build();
                     
+        } catch (RiotUnavailableException e) {
+            throw e; // 503으로 바로 응답 (서킷 OPEN / 동시 호출 초과)
         } catch (Exception e) {
             log.error("플레이어 전적 조회 실패: {}", e.getMessage());
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, 
@@ -80,27 +257,410 @@ public class RiotApiService {
         }
     }
 
+    /**
+     * 👥 여러 플레이어 전적 한 번에 조회 (팀/클랜 페이지)
+     * 
+     * 동작:
+     * 1. 계정 병렬 조회 (같은 Riot ID는 한 번만)
+     * 2. 플레이어별 경기 ID 병렬 조회
+     * 3. 경기 ID 합집합의 상세를 경기당 한 번만 조회
+     * 4. 플레이어별 전적/통계 조립
+     * 
+     * 함께 플레이한 경기가 많을수록 상세 호출이 줄어들고, 아낀 호출 수를 응답에 담는다.
+     * 일부 플레이어 실패 시 해당 플레이어만 failedPlayers에 기록
+     * 플레이어마다 region을 따로 지정할 수 있음 (없으면 기본 지역, 알 수 없는 지역이면 전체 요청 400)
+     */
+    public BatchMatchHistoryResponse getBatchMatchHistory(List<RiotIdRequest> players, int count) {
+        Map<String, RiotIdRequest> distinctPlayers = new LinkedHashMap<>();
+        Map<RiotIdRequest, RiotRegion> regions = new HashMap<>();
+        for (RiotIdRequest player : players) {
+            RiotRegion region = regionRouting.resolve(player.getRegion());
+            String key = region.getTag() + ":" + AccountCache.key(player.getGameName(), player.getTagLine());
+            if (distinctPlayers.putIfAbsent(key, player) == null) {
+                regions.put(player, region);
+            }
+        }
+        
+        // 1~2. 계정 → 경기 ID (플레이어마다 병렬, 플레이어 지역의 조회 풀)
+        Map<RiotIdRequest, CompletableFuture<AccountResponse>> accounts = new LinkedHashMap<>();
+        Map<RiotIdRequest, CompletableFuture<List<String>>> matchIdsByPlayer = new LinkedHashMap<>();
+        for (RiotIdRequest player : distinctPlayers.values()) {
+            RiotRegion region = regions.get(player);
+            CompletableFuture<AccountResponse> account = riotFetchExecutors.supply(region.accountRegion(),
+                    () -> getAccountByRiotId(player.getGameName(), player.getTagLine(), region));
+            accounts.put(player, account);
+            matchIdsByPlayer.put(player, account.thenCompose(resolved -> riotFetchExecutors.supply(region,
+                    () -> getRecentMatchIds(region, resolved.getPuuid(), count))));
+        }
+        
+        List<String> failedPlayers = new ArrayList<>();
+        Map<RiotIdRequest, List<String>> resolvedIds = new LinkedHashMap<>();
+        for (RiotIdRequest player : distinctPlayers.values()) {
+            try {
+                resolvedIds.put(player, matchIdsByPlayer.get(player).join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("여러 플레이어 조회 - 플레이어 제외: {}#{}, 원인={}",
+                        player.getGameName(), player.getTagLine(), cause.getMessage());
+                failedPlayers.add(player.getGameName() + "#" + player.getTagLine());
+            }
+        }
+        
+        // 3. 🔥 핵심: 경기 ID 합집합 → 경기당 한 번만 상세 조회
+        Set<String> distinctMatchIds = new LinkedHashSet<>();
+        int requestedMatches = 0;
+        for (List<String> matchIds : resolvedIds.values()) {
+            distinctMatchIds.addAll(matchIds);
+            requestedMatches += matchIds.size();
+        }
+        Map<String, MatchSummary> summaries = fetchMatchSummaries(distinctMatchIds, batchConcurrency);
+        
+        // 4. 플레이어별 전적 조립 (요청 순서 유지)
+        List<PlayerMatchHistoryResponse> histories = new ArrayList<>(resolvedIds.size());
+        resolvedIds.forEach((player, matchIds) -> {
+            AccountResponse account = accounts.get(player).join();
+            List<MatchDetailResponse> matches = new ArrayList<>(matchIds.size());
+            List<String> failedMatchIds = new ArrayList<>();
+            for (String matchId : matchIds) {
+                MatchSummary match = summaries.get(matchId);
+                Optional<ParticipantStats> participant = match == null ? Optional.empty()
+                        : match.findParticipant(account.getPuuid());
+                if (participant.isPresent()) {
+                    matches.add(toMatchDetail(match, participant.get()));
+                } else {
+                    failedMatchIds.add(matchId);
+                }
+            }
+            recordStats(account.getPuuid(), matches);
+            histories.add(PlayerMatchHistoryResponse.builder()
+                    .player(account)
+                    .matches(matches)
+                    .stats(calculateMatchStats(matches))
+                    .failedMatchIds(failedMatchIds)
+                    .build());
+        });
+        
+        int saved = requestedMatches - distinctMatchIds.size();
+        log.info("여러 플레이어 전적 조회: {}명 (실패 {}명), 경기 {} → {}건 조회 (중복 제거로 {}건 절약)",
+                histories.size(), failedPlayers.size(), requestedMatches, distinctMatchIds.size(), saved);
+        
+        return BatchMatchHistoryResponse.builder()
+                .histories(histories)
+                .failedPlayers(failedPlayers)
+                .requestedMatches(requestedMatches)
+                .distinctMatches(distinctMatchIds.size())
+                .upstreamCallsSaved(saved)
+                .build();
+    }
+
+    /**
+     * 🔍 로비 스카우팅: 경기 하나의 참가자 전원 최근 폼
+     * 
+     * 동작:
+     * 1. 경기 요약에서 참가자 puuid를 바로 읽음 (account-v1 호출 없음)
+     * 2. 참가자 10명의 최근 경기 ID 병렬 조회 (경기 지역의 조회 풀)
+     * 3. 경기 ID 합집합의 상세를 경기당 한 번만 조회 - 10명 통틀어 동시 조회 수는 lobbyConcurrency
+     * 4. 참가자별 승패/통계 요약
+     * 
+     * 전체 소요 시간 ≈ 경기 1회 + 경기 목록 1회 + 상세 (서로 다른 경기 수 / lobbyConcurrency)회 왕복
+     */
+    public LobbyFormResponse getLobbyForm(String matchId, int count) {
+        MatchSummary lobby;
+        try {
+            lobby = getMatchSummary(matchId);
+        } catch (HttpClientErrorException e) {
+            throw new ResponseStatusException(e.getStatusCode(), "경기를 찾을 수 없습니다: " + matchId);
+        }
+        RiotRegion region = regionRouting.forMatch(matchId);
+        
+        // 2. 참가자별 최근 경기 ID (병렬)
+        Map<ParticipantStats, CompletableFuture<List<String>>> matchIdsByPlayer = new LinkedHashMap<>();
+        for (ParticipantStats participant : lobby.getParticipants()) {
+            matchIdsByPlayer.put(participant, riotFetchExecutors.supply(region,
+                    () -> getRecentMatchIds(region, participant.getPuuid(), count)));
+        }
+        
+        List<String> failedPlayers = new ArrayList<>();
+        Map<ParticipantStats, List<String>> resolvedIds = new LinkedHashMap<>();
+        RiotUnavailableException unavailable = null;
+        for (Map.Entry<ParticipantStats, CompletableFuture<List<String>>> entry : matchIdsByPlayer.entrySet()) {
+            try {
+                resolvedIds.put(entry.getKey(), entry.getValue().join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("로비 스카우팅 - 참가자 제외: puuid={}, 원인={}", entry.getKey().getPuuid(), cause.getMessage());
+                failedPlayers.add(entry.getKey().getPuuid());
+                if (cause instanceof RiotUnavailableException riotUnavailable) {
+                    unavailable = riotUnavailable;
+                }
+            }
+        }
+        if (resolvedIds.isEmpty() && unavailable != null) {
+            throw unavailable; // 503으로 바로 응답 (서킷 OPEN / 동시 호출 초과)
+        }
+        
+        // 3. 경기 ID 합집합 → 경기당 한 번만 상세 조회 (같이 큐를 돌린 참가자는 경기를 공유)
+        Set<String> distinctMatchIds = new LinkedHashSet<>();
+        int requestedMatches = 0;
+        for (List<String> matchIds : resolvedIds.values()) {
+            distinctMatchIds.addAll(matchIds);
+            requestedMatches += matchIds.size();
+        }
+        distinctMatchIds.remove(matchId); // 이 경기는 이미 있음
+        Map<String, MatchSummary> summaries = new HashMap<>(fetchMatchSummaries(distinctMatchIds, lobbyConcurrency));
+        summaries.put(matchId, lobby);
+        
+        // 4. 참가자별 폼 요약 (참가자 순서 유지)
+        List<LobbyPlayerFormResponse> players = new ArrayList<>(resolvedIds.size());
+        resolvedIds.forEach((participant, matchIds) -> {
+            List<MatchDetailResponse> matches = new ArrayList<>(matchIds.size());
+            StringBuilder results = new StringBuilder(matchIds.size());
+            for (String id : matchIds) {
+                MatchSummary match = summaries.get(id);
+                Optional<ParticipantStats> player = match == null ? Optional.empty()
+                        : match.findParticipant(participant.getPuuid());
+                if (player.isPresent()) {
+                    matches.add(toMatchDetail(match, player.get()));
+                    results.append(player.get().isWin() ? 'W' : 'L');
+                }
+            }
+            recordStats(participant.getPuuid(), matches);
+            players.add(LobbyPlayerFormResponse.builder()
+                    .puuid(participant.getPuuid())
+                    .gameName(participant.getRiotIdGameName())
+                    .tagLine(participant.getRiotIdTagline())
+                    .teamId(participant.getTeamId())
+                    .championName(gameData.championName(participant.getChampionId()))
+                    .recentResults(results.toString())
+                    .stats(calculateMatchStats(matches))
+                    .failedMatches(matchIds.size() - matches.size())
+                    .build());
+        });
+        
+        log.info("로비 스카우팅: {} - 참가자 {}명 (실패 {}명), 경기 {} → {}건 조회",
+                matchId, players.size(), failedPlayers.size(), requestedMatches, distinctMatchIds.size());
+        
+        return LobbyFormResponse.builder()
+                .matchId(matchId)
+                .queueType(gameData.queueName(lobby.getQueueId()))
+                .gameDate(Instant.ofEpochMilli(lobby.getGameCreation()).atZone(ZoneId.systemDefault()).toLocalDateTime())
+                .players(players)
+                .failedPlayers(failedPlayers)
+                .requestedMatches(requestedMatches)
+                .distinctMatches(distinctMatchIds.size())
+                .build();
+    }
+
+    /**
+     * 📡 스트리밍 전적 조회: 계정 → 경기(완료되는 대로) → 통계 순서로 listener에 전달
+     * 
+     * 전체가 끝날 때까지 기다리지 않으므로 첫 응답은 계정 조회 1회 만에 나간다.
+     */
+    public void streamPlayerMatchHistory(String gameName, String tagLine, RiotRegion region, int count,
+                                         MatchHistoryListener listener) {
+        AccountResponse account = getAccountByRiotId(gameName, tagLine, region);
+        listener.onAccount(account);
+        
+        List<String> matchIds = getRecentMatchIds(region, account.getPuuid(), count);
+        List<String> failedMatchIds = new ArrayList<>();
+        List<MatchDetailResponse> matches = fetchMatchDetails(matchIds, account.getPuuid(), failedMatchIds, listener);
+        log.info("스트리밍 전적 {} 경기 전송 완료 (실패 {} 경기)", matches.size(), failedMatchIds.size());
+        
+        listener.onStats(calculateMatchStats(matches));
+    }
+
+    /**
+     * 📄 커서 기반 전적 페이지 조회 (10경기 제한 없이 전체 전적 탐색)
+     * 
+     * 동작:
+     * 1. 현재 페이지와 다음 prefetchPages개 페이지의 경기 ID를 start 오프셋별로 동시에 조회
+     *    (요청당 동시 호출 수는 perRequestConcurrency로 제한, 선조회된 페이지가 있으면 그대로 사용)
+     * 2. 현재 페이지 경기 상세 병렬 조회
+     * 3. 다음 페이지들은 ID를 받는 대로 상세까지 백그라운드에서 미리 받아둠
+     *    (클라이언트가 현재 페이지를 보는 동안 아카이브/인덱스가 채워짐)
+     * 경기 ID/상세 호출은 모두 지역 조회 풀에서 실행 - 대기열이 차면 다른 조회와 같이 503
+     */
+    public MatchHistoryPageResponse getPlayerMatchPage(String gameName, String tagLine, RiotRegion region,
+                                                       String cursor, int size) {
+        int start = decodeCursor(cursor);
+        int pageSize = Math.max(20, Math.min(size, 100)); // Riot 경기 ID 조회 한도 100
+        
+        AccountResponse account = getAccountByRiotId(gameName, tagLine, region);
+        String puuid = account.getPuuid();
+        
+        Semaphore permits = new Semaphore(Math.max(1, perRequestConcurrency));
+        CompletableFuture<List<String>> prefetched = prefetchedPages.get(pageKey(region, puuid, start, pageSize));
+        CompletableFuture<List<String>> current = prefetched != null ? prefetched
+                : fetchMatchIdsAsync(region, puuid, start, pageSize, permits);
+        for (int page = 1; page <= prefetchPages; page++) {
+            prefetchPage(region, puuid, start + page * pageSize, pageSize, permits);
+        }
+        List<String> matchIds = joinPageMatchIds(current, prefetched != null, region, puuid, start, pageSize);
+        
+        List<String> failedMatchIds = new ArrayList<>();
+        List<MatchDetailResponse> matches = matchIds.isEmpty() ? List.of()
+                : fetchMatchDetails(matchIds, puuid, failedMatchIds, null);
+        log.info("전적 페이지 조회: start={}, {} 경기 (실패 {} 경기)", start, matches.size(), failedMatchIds.size());
+        
+        return MatchHistoryPageResponse.builder()
+                .player(account)
+                .matches(matches)
+                .failedMatchIds(failedMatchIds)
+                .cursor(encodeCursor(start))
+                .nextCursor(matchIds.size() == pageSize ? encodeCursor(start + pageSize) : null)
+                .size(pageSize)
+                .build();
+    }
+
+    /**
+     * 🔧 헬퍼: 페이지 경기 ID 기다리기 - 선조회가 실패했으면 다시 호출
+     */
+    private List<String> joinPageMatchIds(CompletableFuture<List<String>> ids, boolean prefetched,
+                                          RiotRegion region, String puuid, int start, int size) {
+        try {
+            return ids.join();
+        } catch (CompletionException e) {
+            if (prefetched) {
+                prefetchedPages.remove(pageKey(region, puuid, start, size));
+                return fetchMatchIds(region, puuid, start, size, null);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 🔧 헬퍼: 다음 페이지 백그라운드 선조회 (경기 ID → 상세까지 받아서 아카이브/인덱스 채움)
+     */
+    private void prefetchPage(RiotRegion region, String puuid, int start, int size, Semaphore permits) {
+        String key = pageKey(region, puuid, start, size);
+        if (prefetchedPages.get(key) != null) {
+            return;
+        }
+        CompletableFuture<List<String>> ids = fetchMatchIdsAsync(region, puuid, start, size, permits);
+        prefetchedPages.put(key, ids);
+        ids.thenAccept(matchIds -> {
+            if (!matchIds.isEmpty()) { // 비어 있으면 전적 끝을 넘어선 페이지
+                prefetchMatchDetails(matchIds, puuid, start);
+            }
+        });
+    }
+
+    /**
+     * 🔧 헬퍼: 선조회 페이지 경기 상세 받기 - 기다리는 스레드 없이 조회 풀에서만 진행
+     *
+     * perRequestConcurrency개 줄로 나눠서 줄마다 앞 경기가 끝나면 다음 경기를 조회 풀에 넣음
+     * (조회 풀 스레드가 다른 조회 작업을 기다리며 막히지 않도록)
+     * 아카이브/인덱스만 채우고 누적 통계는 그 페이지를 실제로 조회할 때 반영
+     */
+    private void prefetchMatchDetails(List<String> matchIds, String puuid, int start) {
+        int lanes = Math.max(1, Math.min(perRequestConcurrency, matchIds.size()));
+        for (int lane = 0; lane < lanes; lane++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (int i = lane; i < matchIds.size(); i += lanes) {
+                String matchId = matchIds.get(i);
+                chain = chain.thenCompose(ignored -> riotFetchExecutors
+                        .supply(regionRouting.forMatch(matchId), () -> getMatchDetail(matchId, puuid))
+                        .handle((match, error) -> {
+                            if (error != null) {
+                                log.debug("다음 페이지 선조회 실패: start={}, matchId={}, 원인={}",
+                                        start, matchId, error.getMessage());
+                            }
+                            return null;
+                        }));
+            }
+        }
+    }
+
+    /**
+     * 🔧 헬퍼: 경기 ID 목록 비동기 조회 (지역 조회 풀, permits로 요청당 동시 호출 수 제한)
+     */
+    private CompletableFuture<List<String>> fetchMatchIdsAsync(RiotRegion region, String puuid, int start, int size,
+                                                               Semaphore permits) {
+        permits.acquireUninterruptibly();
+        return riotFetchExecutors
+                .supply(region, () -> fetchMatchIds(region, puuid, start, size, null))
+                .whenComplete((ids, error) -> permits.release());
+    }
+
+    private static String pageKey(RiotRegion region, String puuid, int start, int size) {
+        return region.getTag() + ":" + puuid + ":" + start + ":" + size;
+    }
+
+    private static String encodeCursor(int start) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("s:" + start).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int start = Integer.parseInt(decoded.substring(decoded.indexOf(':') + 1));
+            if (!decoded.startsWith("s:") || start < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            return start;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
     /**
      * 🔧 헬퍼: Riot ID로 계정 정보 조회
+     * 
+     * 캐시 우선 - 없는 계정(404)도 짧게 기억해서 오타 닉네임 재조회를 막음
+     * (계정은 어느 지역에서 조회해도 같아서 캐시는 지역 구분 없음)
      */
     public AccountResponse getAccountByRiotId(String gameName, String tagLine) {
+        return getAccountByRiotId(gameName, tagLine, regionRouting.getDefaultRegion());
+    }
+
+    public AccountResponse getAccountByRiotId(String gameName, String tagLine, RiotRegion region) {
+        String cacheKey = AccountCache.key(gameName, tagLine);
+        AccountResponse cached = accountCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        if (accountCache.isKnownMissing(cacheKey)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, 
+                    "플레이어를 찾을 수 없습니다: " + gameName + "#" + tagLine);
+        }
+        
+        // 같은 Riot ID 동시 조회는 한 번만 호출
+        return requestCoalescer.account(cacheKey, () -> fetchAccount(gameName, tagLine, region, cacheKey));
+    }
+
+    /**
+     * 🔧 헬퍼: account-v1 호출 후 캐시에 저장 (404는 부재 캐시)
+     */
+    private AccountResponse fetchAccount(String gameName, String tagLine, RiotRegion region, String cacheKey) {
         String encodedGameName = URLEncoder.encode(gameName, StandardCharsets.UTF_8);
         String encodedTagLine = URLEncoder.encode(tagLine, StandardCharsets.UTF_8);
         
-        String baseUrl = String.format("https://%s.api.riotgames.com/riot/account/v1/accounts/by-riot-id/%s/%s",
-                regionalRoute, encodedGameName, encodedTagLine);
+        String baseUrl = regionRouting.url(region.accountRegion(),
+                "/riot/account/v1/accounts/by-riot-id/%s/%s", encodedGameName, encodedTagLine);
         String url = riotConfig.addApiKeyToUrl(baseUrl);
         
         try {
             Map<String, Object> response = riotRestTemplate.getForObject(url, Map.class);
             
-            return AccountResponse.builder()
+            AccountResponse account = AccountResponse.builder()
                     .puuid(response.get("puuid").toString())
                     .gameName(response.get("gameName").toString())
                     .tagLine(response.get("tagLine").toString())
                     .build();
+            accountCache.put(cacheKey, account);
+            return account;
                     
         } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().value() == 404) {
+                accountCache.putMissing(cacheKey);
+            }
             throw new ResponseStatusException(e.getStatusCode(), 
                     "플레이어를 찾을 수 없습니다: " + gameName + "#" + tagLine);
         }
@@ -108,10 +668,37 @@ public class RiotApiService {
 
     /**
      * 🔧 헬퍼: 최근 경기 ID 목록 조회
+     * 
+     * 이전에 받은 목록이 있으면 마지막 경기 이후(startTime)의 ID만 받아서 합침
+     */
+    private List<String> getRecentMatchIds(RiotRegion region, String puuid, int count) {
+        // 같은 플레이어 동시 조회는 한 번만 호출
+        return requestCoalescer.matchIds(region.getTag() + ":" + puuid + ":" + count,
+                () -> syncRecentMatchIds(region, puuid, count));
+    }
+
+    private List<String> syncRecentMatchIds(RiotRegion region, String puuid, int count) {
+        Optional<Long> startTime = matchHistorySync.startTimeFor(region, puuid, count);
+        if (startTime.isEmpty()) {
+            List<String> matchIds = fetchMatchIds(region, puuid, 0, count, null);
+            matchHistorySync.replace(region, puuid, matchIds);
+            return matchIds;
+        }
+        
+        List<String> newerIds = fetchMatchIds(region, puuid, 0, count, startTime.get());
+        log.info("증분 동기화: 새 경기 ID {} 개", newerIds.size());
+        return matchHistorySync.merge(region, puuid, newerIds, count);
+    }
+
+    /**
+     * 🔧 헬퍼: 경기 ID 목록 Riot 호출 (startTime은 epoch 초, null이면 전체)
      */
-    private List<String> getRecentMatchIds(String puuid, int count) {
-        String baseUrl = String.format("https://%s.api.riotgames.com/lol/match/v5/matches/by-puuid/%s/ids?start=0&count=%d",
-                regionalRoute, puuid, count);
+    private List<String> fetchMatchIds(RiotRegion region, String puuid, int start, int count, Long startTime) {
+        String baseUrl = regionRouting.url(region,
+                "/lol/match/v5/matches/by-puuid/%s/ids?start=%d&count=%d", puuid, start, count);
+        if (startTime != null) {
+            baseUrl += "&startTime=" + startTime;
+        }
         String url = riotConfig.addApiKeyToUrl(baseUrl);
         
         try {
@@ -128,40 +715,25 @@ public class RiotApiService {
      * 
      * 기존 문제: 의미없는 queueId, mapId만 추출
      * 개선: 실제 게임 성과 데이터 추출 (승부, 챔피언, KDA, CS 등)
+     * 
+     * 조회 순서: 참가자 역인덱스 → 로컬 아카이브 → Riot 호출
+     * 파싱은 Map 트리 대신 토큰 스트림으로 필요한 필드만 읽고,
+     * 참가자 10명 전원을 인덱스에 올려서 같은 로비 플레이어 조회에 재사용
      */
     public MatchDetailResponse getMatchDetail(String matchId, String targetPuuid) {
-        String baseUrl = String.format("https://%s.api.riotgames.com/lol/match/v5/matches/%s",
-                regionalRoute, matchId);
-        String url = riotConfig.addApiKeyToUrl(baseUrl);
-        
         try {
-            Map<String, Object> response = riotRestTemplate.getForObject(url, Map.class);
-            Map<String, Object> info = (Map<String, Object>) response.get("info");
-            List<Map<String, Object>> participants = (List<Map<String, Object>>) info.get("participants");
+            // 0. 같은 경기를 다른 참가자가 이미 조회했다면 바로 응답
+            Optional<MatchSummary> indexed = participantIndex.find(matchId, targetPuuid);
+            if (indexed.isPresent()) {
+                return toMatchDetail(indexed.get(), indexed.get().findParticipant(targetPuuid).orElseThrow());
+            }
             
-            // 🔥 핵심: 타겟 플레이어 찾기
-            Map<String, Object> targetPlayer = participants.stream()
-                    .filter(p -> targetPuuid.equals(p.get("puuid").toString()))
-                    .findFirst()
+            // 🔥 핵심: 참가자 전원을 스트리밍으로 추출해서 인덱싱 (동시 요청은 한 번만)
+            MatchSummary match = requestCoalescer.matchDetail(matchId, () -> loadMatch(matchId));
+            ParticipantStats targetPlayer = match.findParticipant(targetPuuid)
                     .orElseThrow(() -> new RuntimeException("플레이어 데이터를 찾을 수 없습니다"));
             
-            // 🔥 핵심: 실제 전적 데이터 추출
-            return MatchDetailResponse.builder()
-                    .matchId(matchId)
-                    .championName(getChampionName((Integer) targetPlayer.get("championId")))
-                    .victory((Boolean) targetPlayer.get("win"))
-                    .kills((Integer) targetPlayer.get("kills"))
-                    .deaths((Integer) targetPlayer.get("deaths"))
-                    .assists((Integer) targetPlayer.get("assists"))
-                    .cs(((Integer) targetPlayer.get("totalMinionsKilled")) + 
-                        ((Integer) targetPlayer.get("neutralMinionsKilled")))
-                    .totalDamage((Integer) targetPlayer.get("totalDamageDealtToChampions"))
-                    .goldEarned((Integer) targetPlayer.get("goldEarned"))
-                    .gameLength(((Number) info.get("gameDuration")).longValue())
-                    .gameDate(Instant.ofEpochMilli(((Number) info.get("gameCreation")).longValue())
-                            .atZone(ZoneId.systemDefault()).toLocalDateTime())
-                    .queueType(getQueueTypeName((Integer) info.get("queueId")))
-                    .build();
+            return toMatchDetail(match, targetPlayer);
                     
         } catch (HttpClientErrorException e) {
             log.error("경기 상세 조회 실패: {}", e.getMessage());
@@ -171,94 +743,377 @@ public class RiotApiService {
     }
 
     /**
-     * 🔧 헬퍼: 여러 경기 통계 계산
+     * 🔧 헬퍼: 경기 요약(참가자 전원) - 역인덱스 → 아카이브 → Riot 호출 (동시 요청은 한 번만)
      */
-    private MatchStatsResponse calculateMatchStats(List<MatchDetailResponse> matches) {
-        if (matches.isEmpty()) {
-            return MatchStatsResponse.builder()
-                    .totalGames(0)
-                    .wins(0)
-                    .losses(0)
-                    .winRate(0.0)
-                    .averageKDA(0.0)
-                    .mostPlayedChampion("없음")
-                    .build();
+    private MatchSummary getMatchSummary(String matchId) {
+        return participantIndex.getMatch(matchId)
+                .orElseGet(() -> requestCoalescer.matchDetail(matchId, () -> loadMatch(matchId)));
+    }
+
+    /**
+     * 🔧 헬퍼: 경기 원본 → 참가자 전원 파싱 → 역인덱스 등록
+     */
+    private MatchSummary loadMatch(String matchId) {
+        byte[] payload = getMatchPayload(matchId);
+        try {
+            MatchSummary match = matchPayloadParser.parse(payload, matchId, null);
+            participantIndex.index(match);
+            championAnalytics.record(match);
+            return match;
+        } catch (IOException e) {
+            log.error("경기 상세 파싱 실패: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, 
+                    "경기 상세 정보를 해석할 수 없습니다: " + matchId);
         }
+    }
 
-        int wins = (int) matches.stream().mapToInt(m -> m.isVictory() ? 1 : 0).sum();
-        int totalKills = matches.stream().mapToInt(MatchDetailResponse::getKills).sum();
-        int totalDeaths = matches.stream().mapToInt(MatchDetailResponse::getDeaths).sum();
-        int totalAssists = matches.stream().mapToInt(MatchDetailResponse::getAssists).sum();
-        
-        // 가장 많이 플레이한 챔피언
-        String mostPlayedChampion = matches.stream()
-                .collect(Collectors.groupingBy(MatchDetailResponse::getChampionName, Collectors.counting()))
-                .entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse("알 수 없음");
-
-        return MatchStatsResponse.builder()
-                .totalGames(matches.size())
-                .wins(wins)
-                .losses(matches.size() - wins)
-                .winRate(matches.size() > 0 ? (double) wins / matches.size() * 100 : 0.0)
-                .averageKDA(totalDeaths > 0 ? (double) (totalKills + totalAssists) / totalDeaths : 
-                           (double) (totalKills + totalAssists))
-                .mostPlayedChampion(mostPlayedChampion)
-                .totalKills(totalKills)
-                .totalDeaths(totalDeaths)
-                .totalAssists(totalAssists)
+    /**
+     * 🔧 헬퍼: 파싱된 경기 + 참가자 → 응답 DTO (실제 전적 데이터)
+     */
+    private MatchDetailResponse toMatchDetail(MatchSummary match, ParticipantStats player) {
+        return MatchDetailResponse.builder()
+                .matchId(match.getMatchId())
+                .championName(gameData.championName(player.getChampionId()))
+                .victory(player.isWin())
+                .kills(player.getKills())
+                .deaths(player.getDeaths())
+                .assists(player.getAssists())
+                .cs(player.getCs())
+                .totalDamage(player.getTotalDamageDealtToChampions())
+                .goldEarned(player.getGoldEarned())
+                .gameLength(match.getGameDuration())
+                .gameDate(Instant.ofEpochMilli(match.getGameCreation())
+                        .atZone(ZoneId.systemDefault()).toLocalDateTime())
+                .queueType(gameData.queueName(match.getQueueId()))
                 .build();
     }
 
     /**
-     * 🔧 헬퍼: 챔피언 ID를 이름으로 변환 (간단 버전)
-     */
-    private String getChampionName(Integer championId) {
-        // 토이프로젝트용 간단한 매핑 (실제로는 Data Dragon API 사용)
-        // Map.of()는 최대 10개까지만 지원하므로 HashMap 사용
-        Map<Integer, String> champions = new java.util.HashMap<>();
-        champions.put(1, "애니");
-        champions.put(2, "올라프");
-        champions.put(3, "갈리오");
-        champions.put(4, "트위스티드 페이트");
-        champions.put(5, "신 짜오");
-        champions.put(10, "케이틀린");
-        champions.put(11, "마스터 이");
-        champions.put(12, "알리스타");
-        champions.put(13, "라이즈");
-        champions.put(14, "사이온");
-        champions.put(17, "티모");
-        champions.put(18, "트리스타나");
-        champions.put(19, "워윅");
-        champions.put(20, "누누와 윌럼프");
-        champions.put(21, "미스 포츈");
-        champions.put(22, "애쉬");
-        champions.put(23, "트린다미어");
-        champions.put(24, "잭스");
-        champions.put(25, "모르가나");
-        champions.put(26, "질리언");
-        champions.put(103, "아리");
-        champions.put(238, "제드");
-        champions.put(157, "야스오");
-        champions.put(84, "아칼리");
-        champions.put(268, "아지르");
+     * 🔧 헬퍼: 경기 원본 JSON - 아카이브 우선, 없으면 경기 ID 지역으로 Riot 호출 후 아카이브에 보관
+     */
+    private byte[] getMatchPayload(String matchId) {
+        return matchArchive.get(matchId).orElseGet(() -> {
+            String baseUrl = regionRouting.url(regionRouting.forMatch(matchId), "/lol/match/v5/matches/%s", matchId);
+            byte[] payload = riotRestTemplate.getForObject(riotConfig.addApiKeyToUrl(baseUrl), byte[].class);
+            if (payload == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "경기 상세 응답이 비어 있습니다: " + matchId);
+            }
+            matchArchive.put(matchId, payload);
+            return payload;
+        });
+    }
+
+    /**
+     * 🔧 헬퍼: 경기 상세 병렬 조회
+     *
+     * - 요청당 동시 조회 수는 perRequestConcurrency로 제한 (지역별 상한은 riotFetchExecutors 풀 크기)
+     * - 지역 풀 대기열이 가득 차면 해당 경기는 RiotUnavailableException으로 실패 처리 (전부 그러면 503)
+     * - 결과는 matchIds 순서 그대로 (최신 경기 먼저)
+     * - 일부 경기 실패 시 해당 경기만 제외하고 failedMatchIds에 기록, 전부 실패하면 예외
+     * - listener가 있으면 경기마다 완료되는 즉시 전달
+     */
+    private List<MatchDetailResponse> fetchMatchDetails(List<String> matchIds, String puuid,
+                                                        List<String> failedMatchIds,
+                                                        MatchHistoryListener listener) {
+        Semaphore permits = new Semaphore(Math.max(1, perRequestConcurrency));
+        List<CompletableFuture<MatchDetailResponse>> futures = new ArrayList<>(matchIds.size());
+
+        for (int i = 0; i < matchIds.size(); i++) {
+            int index = i;
+            String matchId = matchIds.get(i);
+            permits.acquireUninterruptibly();
+            futures.add(riotFetchExecutors
+                    .supply(regionRouting.forMatch(matchId), () -> getMatchDetail(matchId, puuid))
+                    .whenComplete((result, error) -> {
+                        permits.release();
+                        if (listener == null) {
+                            return;
+                        }
+                        if (error == null) {
+                            listener.onMatch(index, result);
+                        } else {
+                            listener.onMatchFailed(index, matchId);
+                        }
+                    }));
+        }
+
+        List<MatchDetailResponse> matches = new ArrayList<>(matchIds.size());
+        RiotUnavailableException unavailable = null;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                matches.add(futures.get(i).join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("경기 상세 조회 실패 - 제외: matchId={}, 원인={}", matchIds.get(i), cause.getMessage());
+                failedMatchIds.add(matchIds.get(i));
+                if (cause instanceof RiotUnavailableException riotUnavailable) {
+                    unavailable = riotUnavailable;
+                }
+            }
+        }
+
+        if (matches.isEmpty() && !failedMatchIds.isEmpty()) {
+            if (unavailable != null) {
+                throw unavailable;
+            }
+            throw new IllegalStateException("모든 경기 상세 조회에 실패했습니다");
+        }
+        recordStats(puuid, matches);
+        return matches;
+    }
+
+    /**
+     * 🔧 헬퍼: 여러 경기 요약 병렬 조회 (동시 조회 수 concurrency, 실패한 경기는 결과에서 빠짐)
+     */
+    private Map<String, MatchSummary> fetchMatchSummaries(Collection<String> matchIds, int concurrency) {
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        Map<String, CompletableFuture<MatchSummary>> futures = new LinkedHashMap<>();
+        for (String matchId : matchIds) {
+            permits.acquireUninterruptibly();
+            futures.put(matchId, riotFetchExecutors
+                    .supply(regionRouting.forMatch(matchId), () -> getMatchSummary(matchId))
+                    .whenComplete((result, error) -> permits.release()));
+        }
         
-        return champions.getOrDefault(championId, "챔피언 " + championId);
+        Map<String, MatchSummary> summaries = new HashMap<>();
+        futures.forEach((matchId, future) -> {
+            try {
+                summaries.put(matchId, future.join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("경기 상세 조회 실패 - 제외: matchId={}, 원인={}", matchId, cause.getMessage());
+            }
+        });
+        return summaries;
     }
 
     /**
-     * 🔧 헬퍼: 큐 타입 ID를 이름으로 변환
+     * 📈 누적 통계 조회 (경기 목록을 다시 훑지 않음)
+     * 
+     * - last: 최근 N경기 / season: 해당 연도 / queueId: 큐별 / 모두 없으면 전체
+     * - 지금까지 조회(반영)된 경기 기준
      */
-    private String getQueueTypeName(Integer queueId) {
-        Map<Integer, String> queues = Map.of(
-                420, "솔로랭크",
-                440, "자유랭크",
-                450, "무작위 총력전",
-                400, "일반 게임",
-                830, "AI 상대"
-        );
-        return queues.getOrDefault(queueId, "기타 게임");
+    public MatchStatsResponse getPlayerStats(String gameName, String tagLine,
+                                             Integer last, Integer season, Integer queueId) {
+        String puuid = getAccountByRiotId(gameName, tagLine).getPuuid();
+        if (last != null) {
+            return statsAggregator.recentStats(puuid, last);
+        }
+        if (season != null) {
+            return statsAggregator.seasonStats(puuid, season);
+        }
+        if (queueId != null) {
+            return statsAggregator.queueStats(puuid, queueId);
+        }
+        return statsAggregator.overallStats(puuid);
+    }
+
+    /**
+     * 📊 기간 통계 조회 (열 저장소 - 지금까지 조회된 경기 기준)
+     * 
+     * from/to는 날짜 (to 포함), 없으면 각각 처음/오늘
+     */
+    public MatchWindowStatsResponse getPlayerRangeStats(String gameName, String tagLine, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : LocalDate.EPOCH;
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("from은 to보다 늦을 수 없습니다");
+        }
+        String puuid = getAccountByRiotId(gameName, tagLine).getPuuid();
+
+        ZoneId zone = ZoneId.systemDefault();
+        WindowStats window = columnarStore.window(puuid,
+                start.atStartOfDay(zone).toEpochSecond(), end.plusDays(1).atStartOfDay(zone).toEpochSecond());
+
+        double minutes = window.durationSeconds() / 60.0;
+        return MatchWindowStatsResponse.builder()
+                .from(from != null ? start : null)
+                .to(end)
+                .stats(MatchStatsCalculator.fromTotals(window.games(), (int) window.wins(), (int) window.kills(),
+                        (int) window.deaths(), (int) window.assists(),
+                        window.mostPlayedChampionId() >= 0 ? gameData.championName(window.mostPlayedChampionId()) : null))
+                .csPerMinute(minutes > 0 ? window.cs() / minutes : 0.0)
+                .goldPerMinute(minutes > 0 ? window.gold() / minutes : 0.0)
+                .damagePerMinute(minutes > 0 ? window.damage() / minutes : 0.0)
+                .totalMinutes(window.durationSeconds() / 60)
+                .build();
+    }
+
+    /**
+     * ⏱️ 분당 성장 곡선 통계 (최근 count경기 타임라인, minute분 시점 CS/골드/경험치 평균)
+     * 
+     * 타임라인은 경기마다 한 번만 받아서 곡선만 보관 - 이후 조회는 Riot 호출 없음
+     */
+    public TimelineStatsResponse getPlayerTimelineStats(String gameName, String tagLine, RiotRegion region,
+                                                        int count, int minute) {
+        AccountResponse account = getAccountByRiotId(gameName, tagLine, region);
+        String puuid = account.getPuuid();
+        List<String> matchIds = getRecentMatchIds(region, puuid, count);
+
+        Semaphore permits = new Semaphore(Math.max(1, perRequestConcurrency));
+        List<CompletableFuture<MatchTimeline>> futures = new ArrayList<>(matchIds.size());
+        for (String matchId : matchIds) {
+            permits.acquireUninterruptibly();
+            futures.add(riotFetchExecutors
+                    .supply(regionRouting.forMatch(matchId), () -> getMatchTimeline(matchId))
+                    .whenComplete((result, error) -> permits.release()));
+        }
+
+        List<String> failedMatchIds = new ArrayList<>();
+        List<MatchTimeline> timelines = new ArrayList<>(matchIds.size());
+        RiotUnavailableException unavailable = null;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                timelines.add(futures.get(i).join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("타임라인 조회 실패 - 제외: matchId={}, 원인={}", matchIds.get(i), cause.getMessage());
+                failedMatchIds.add(matchIds.get(i));
+                if (cause instanceof RiotUnavailableException riotUnavailable) {
+                    unavailable = riotUnavailable;
+                }
+            }
+        }
+        if (timelines.isEmpty() && unavailable != null) {
+            throw unavailable;
+        }
+
+        // 분마다 합계/경기 수 (경기 길이가 달라서 분마다 분모가 다름)
+        int minutes = Math.max(minute + 1, 1);
+        for (MatchTimeline timeline : timelines) {
+            minutes = Math.max(minutes, timeline.getFrameCount() - 1);
+        }
+        long[] csSum = new long[minutes], goldSum = new long[minutes], xpSum = new long[minutes];
+        int[] games = new int[minutes];
+        for (MatchTimeline timeline : timelines) {
+            int player = timeline.participantIndex(puuid);
+            if (player < 0) {
+                continue;
+            }
+            for (int m = 0; m < minutes; m++) {
+                int frame = timeline.frameAtMinute(m);
+                if (frame < 0) {
+                    break;
+                }
+                csSum[m] += timeline.csAt(player, frame);
+                goldSum[m] += timeline.totalGoldAt(player, frame);
+                xpSum[m] += timeline.xpAt(player, frame);
+                games[m]++;
+            }
+        }
+
+        int last = minutes;
+        while (last > 0 && games[last - 1] == 0) {
+            last--;
+        }
+        return TimelineStatsResponse.builder()
+                .player(account)
+                .minute(minute)
+                .games(games[minute])
+                .csAtMinute(average(csSum[minute], games[minute]))
+                .goldAtMinute(average(goldSum[minute], games[minute]))
+                .xpAtMinute(average(xpSum[minute], games[minute]))
+                .csCurve(curve(csSum, games, last))
+                .goldCurve(curve(goldSum, games, last))
+                .xpCurve(curve(xpSum, games, last))
+                .failedMatchIds(failedMatchIds)
+                .build();
+    }
+
+    /**
+     * 🔧 헬퍼: 경기 타임라인 곡선 - 저장소 → Riot 호출 (동시 요청은 한 번만)
+     */
+    private MatchTimeline getMatchTimeline(String matchId) {
+        return timelineStore.get(matchId)
+                .orElseGet(() -> requestCoalescer.matchTimeline(matchId, () -> loadTimeline(matchId)));
+    }
+
+    /**
+     * 🔧 헬퍼: 타임라인 응답을 받으면서 바로 파싱 (응답 전체를 메모리에 올리지 않음) → 곡선 보관
+     */
+    private MatchTimeline loadTimeline(String matchId) {
+        String url = riotConfig.addApiKeyToUrl(
+                regionRouting.url(regionRouting.forMatch(matchId), "/lol/match/v5/matches/%s/timeline", matchId));
+        try {
+            MatchTimeline timeline = riotRestTemplate.execute(url, HttpMethod.GET, null,
+                    response -> timelineParser.parse(response.getBody(), matchId));
+            if (timeline == null || timeline.getFrameCount() == 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "타임라인 응답이 비어 있습니다: " + matchId);
+            }
+            timelineStore.put(timeline);
+            return timeline;
+        } catch (HttpClientErrorException e) {
+            throw new ResponseStatusException(e.getStatusCode(), "타임라인을 가져올 수 없습니다: " + matchId);
+        }
+    }
+
+    private static double average(long sum, int count) {
+        return count > 0 ? (double) sum / count : 0.0;
+    }
+
+    private static List<Double> curve(long[] sums, int[] counts, int length) {
+        List<Double> curve = new ArrayList<>(length);
+        for (int m = 0; m < length; m++) {
+            curve.add(average(sums[m], counts[m]));
+        }
+        return curve;
+    }
+
+    /**
+     * 🏆 서버 전체 챔피언 통계 (지금까지 조회된 모든 경기의 참가자 전원)
+     * 
+     * queueId가 없으면 모든 큐 합산, minPicks 미만 챔피언은 제외
+     */
+    public ChampionAnalyticsResponse getChampionAnalytics(Integer queueId, int minPicks) {
+        List<ChampionStatsResponse> champions = championAnalytics.aggregates(queueId, minPicks).stream()
+                .map(this::toChampionStats)
+                .toList();
+        return ChampionAnalyticsResponse.builder()
+                .queueId(queueId)
+                .totalMatches(championAnalytics.matchCount())
+                .totalParticipants(championAnalytics.rowCount())
+                .champions(champions)
+                .build();
+    }
+
+    private ChampionStatsResponse toChampionStats(ChampionAggregate aggregate) {
+        int picks = aggregate.picks();
+        return ChampionStatsResponse.builder()
+                .championId(aggregate.championId())
+                .championName(gameData.championName(aggregate.championId()))
+                .queueId(aggregate.queueId())
+                .queueName(aggregate.queueId() != null ? gameData.queueName(aggregate.queueId()) : null)
+                .picks(picks)
+                .wins(aggregate.wins())
+                .winRate((double) aggregate.wins() / picks * 100)
+                .pickRate(aggregate.queueMatches() > 0 ? (double) picks / aggregate.queueMatches() * 100 : 0.0)
+                .averageKDA(MatchStatsCalculator.kda(aggregate.kills(), aggregate.deaths(), aggregate.assists()))
+                .averageKills((double) aggregate.kills() / picks)
+                .averageDeaths((double) aggregate.deaths() / picks)
+                .averageAssists((double) aggregate.assists() / picks)
+                .build();
+    }
+
+    /**
+     * 🔧 헬퍼: 조회한 경기를 누적 통계에 반영 (실패해도 전적 응답은 그대로)
+     */
+    private void recordStats(String puuid, List<MatchDetailResponse> matches) {
+        try {
+            List<MatchSummary> summaries = matches.stream()
+                    .map(match -> participantIndex.getMatch(match.getMatchId()).orElse(null))
+                    .filter(Objects::nonNull)
+                    .toList();
+            statsAggregator.ingest(puuid, summaries);
+            columnarStore.appendAll(puuid, summaries);
+        } catch (RuntimeException e) {
+            log.warn("누적 통계 반영 실패: puuid={}, 원인={}", puuid, e.getMessage());
+        }
+    }
+
+    /**
+     * 🔧 헬퍼: 여러 경기 통계 계산
+     */
+    private MatchStatsResponse calculateMatchStats(List<MatchDetailResponse> matches) {
+        return MatchStatsCalculator.fromMatches(matches);
     }
 }
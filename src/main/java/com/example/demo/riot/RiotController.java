@@ -1,18 +1,54 @@
 package com.example.demo.riot;
 
 import com.example.demo.common.dto.ApiResponse;
+import com.example.demo.riot.dto.AccountResponse;
+import com.example.demo.riot.dto.BatchMatchHistoryRequest;
+import com.example.demo.riot.dto.BatchMatchHistoryResponse;
+import com.example.demo.riot.dto.ChampionAnalyticsResponse;
+import com.example.demo.riot.dto.LobbyFormResponse;
+import com.example.demo.riot.dto.MatchDetailResponse;
+import com.example.demo.riot.dto.MatchHistoryPageResponse;
+import com.example.demo.riot.dto.MatchStatsResponse;
+import com.example.demo.riot.dto.MatchWindowStatsResponse;
 import com.example.demo.riot.dto.PlayerMatchHistoryResponse;
+import com.example.demo.riot.dto.TimelineStatsResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 
 /**
  * 🎮 Riot API 컨트롤러 - 핵심 기능만
  * 
- * 단 1개 기능: 플레이어 전적 조회
- * - 불필요한 테스트 엔드포인트 모두 제거
- * - 중복 기능 모두 제거
- * - 핵심만 남김
+ * 플레이어 전적 조회
+ * - 일반 응답: 최근 경기 전체 결과를 한 번에
+ * - 페이지 응답: 커서로 전체 전적을 이어서 탐색
+ * - 스트리밍 응답(SSE): 계정 → 경기별 → 통계 순서로 준비되는 대로
+ * 
+ * 조회 응답(GET)에는 ETag + Cache-Control을 붙여서 같은 전적 재요청은 304로 끝낸다.
+ * Riot 호출이 필요한 조회는 비동기(DeferredResult)로 처리 - Riot 응답을 기다리는 동안 Tomcat 워커를 잡지 않아서
+ * 전적 조회가 몰려도 게시판/인증 API는 영향받지 않는다.
+ * 플레이어 조회는 region 파라미터(americas/asia/europe/sea 또는 kr, euw1 같은 플랫폼)로 지역을 고르고,
+ * 없으면 기본 지역(riot.platform-route)으로 조회한다.
  */
 @RestController
 @RequestMapping("/api/riot")
@@ -21,11 +57,31 @@ import org.springframework.web.bind.annotation.*;
 public class RiotController {
 
     private final RiotApiService riotApiService;
+    private final RiotRegionRouting regionRouting;
+    private final ExecutorService riotStreamExecutor;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${riot.stream.timeout-ms:60000}")
+    private long streamTimeoutMs;
+
+    @Value("${riot.async.timeout-ms:10000}")
+    private long asyncTimeoutMs; // 비동기 조회 응답 대기 상한 (넘으면 504)
+
+    @Value("${riot.http-cache.max-age-seconds:30}")
+    private long maxAgeSeconds;
+
+    @Value("${riot.http-cache.stale-while-revalidate-seconds:60}")
+    private long staleWhileRevalidateSeconds;
+
+    @Value("${riot.http-cache.shared:false}")
+    private boolean sharedCache; // true면 public (리버스 프록시 공유 캐시 허용), 기본은 private
 
     /**
      * 🎯 유일한 핵심 기능: 플레이어 전적 조회
      * 
      * 사용법: GET /api/riot/player/Faker/KR1/matches?count=5
+     *        GET /api/riot/player/Caps/EUW/matches?count=5&region=europe
      * 
      * 반환값:
      * - 플레이어 기본 정보
@@ -33,20 +89,303 @@ public class RiotController {
      * - 통계 요약 (승률, 평균 KDA, 주력 챔피언)
      */
     @GetMapping("/player/{gameName}/{tagLine}/matches")
-    public ApiResponse<PlayerMatchHistoryResponse> getPlayerMatches(
+    public DeferredResult<ResponseEntity<ApiResponse<PlayerMatchHistoryResponse>>> getPlayerMatches(
             @PathVariable String gameName,
             @PathVariable String tagLine,
-            @RequestParam(defaultValue = "5") int count) {
+            @RequestParam(defaultValue = "5") int count,
+            @RequestParam(required = false) String region) {
         
-        log.info("플레이어 전적 조회: {}#{}, {}경기", gameName, tagLine, count);
+        log.info("플레이어 전적 조회: {}#{}, {}경기, region={}", gameName, tagLine, count, region);
+        
+        return deferred(riotApiService.getPlayerMatchHistoryAsync(
+                gameName, tagLine, regionRouting.resolve(region), Math.min(count, 10)), // 최대 10경기로 제한
+                matchHistory -> cacheable(ApiResponse.<PlayerMatchHistoryResponse>builder()
+                        .success(true)
+                        .message(String.format("%s#%s의 최근 %d경기 전적", gameName, tagLine, matchHistory.getMatches().size()))
+                        .data(matchHistory)
+                        .build()));
+    }
+
+    /**
+     * 📄 전적 페이지 조회 (커서 기반, 10경기 제한 없음)
+     * 
+     * 사용법: GET /api/riot/player/Faker/KR1/matches/page?size=50
+     *        → 응답의 nextCursor로 GET .../matches/page?size=50&cursor={nextCursor}
+     * 
+     * size는 20~100 사이로 맞춰지고, 다음 페이지는 서버가 미리 받아둔다.
+     */
+    @GetMapping("/player/{gameName}/{tagLine}/matches/page")
+    public DeferredResult<ResponseEntity<ApiResponse<MatchHistoryPageResponse>>> getPlayerMatchPage(
+            @PathVariable String gameName,
+            @PathVariable String tagLine,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String region) {
         
-        PlayerMatchHistoryResponse matchHistory = riotApiService.getPlayerMatchHistory(
-                gameName, tagLine, Math.min(count, 10)); // 최대 10경기로 제한
+        log.info("플레이어 전적 페이지 조회: {}#{}, cursor={}, size={}, region={}", gameName, tagLine, cursor, size, region);
         
-        return ApiResponse.<PlayerMatchHistoryResponse>builder()
-                .success(true)
-                .message(String.format("%s#%s의 최근 %d경기 전적", gameName, tagLine, matchHistory.getMatches().size()))
-                .data(matchHistory)
-                .build();
+        return deferred(riotApiService.getPlayerMatchPageAsync(
+                gameName, tagLine, regionRouting.resolve(region), cursor, size),
+                page -> cacheable(ApiResponse.success(
+                        String.format("%s#%s의 전적 %d경기", gameName, tagLine, page.getMatches().size()), page)));
+    }
+
+    /**
+     * 👥 여러 플레이어 전적 한 번에 조회 (팀/클랜 페이지)
+     *
+     * 사용법: POST /api/riot/players/matches
+     *        {"players": [{"gameName": "Faker", "tagLine": "KR1"}, ...], "count": 5}
+     *
+     * 함께 플레이한 경기는 한 번만 조회하고, 아낀 호출 수(upstreamCallsSaved)를 함께 반환
+     */
+    @PostMapping("/players/matches")
+    public DeferredResult<ResponseEntity<ApiResponse<BatchMatchHistoryResponse>>> getBatchPlayerMatches(
+            @Valid @RequestBody BatchMatchHistoryRequest request) {
+
+        log.info("여러 플레이어 전적 조회: {}명, {}경기", request.getPlayers().size(), request.getCount());
+
+        return deferred(riotApiService.getBatchMatchHistoryAsync(request.getPlayers(), request.getCount()),
+                batch -> ResponseEntity.ok(ApiResponse.success(
+                        String.format("%d명의 전적 (중복 경기 %d건 생략)", batch.getHistories().size(), batch.getUpstreamCallsSaved()),
+                        batch)));
+    }
+
+    /**
+     * 📈 누적 통계 조회
+     *
+     * 사용법: GET /api/riot/player/Faker/KR1/stats?last=20
+     *        GET /api/riot/player/Faker/KR1/stats?season=2025
+     *        GET /api/riot/player/Faker/KR1/stats?queueId=420
+     *
+     * 지금까지 조회된 경기가 반영된 통계 (요청마다 경기를 다시 계산하지 않음)
+     */
+    @GetMapping("/player/{gameName}/{tagLine}/stats")
+    public ResponseEntity<ApiResponse<MatchStatsResponse>> getPlayerStats(
+            @PathVariable String gameName,
+            @PathVariable String tagLine,
+            @RequestParam(required = false) Integer last,
+            @RequestParam(required = false) Integer season,
+            @RequestParam(required = false) Integer queueId) {
+
+        log.info("플레이어 누적 통계 조회: {}#{}, last={}, season={}, queueId={}", gameName, tagLine, last, season, queueId);
+
+        MatchStatsResponse stats = riotApiService.getPlayerStats(gameName, tagLine, last, season, queueId);
+
+        return cacheable(ApiResponse.success(
+                String.format("%s#%s의 누적 통계 (%d경기)", gameName, tagLine, stats.getTotalGames()), stats));
+    }
+
+    /**
+     * 📊 기간 통계 조회 (승률/KDA + 분당 CS/골드/피해량)
+     *
+     * 사용법: GET /api/riot/player/Faker/KR1/stats/range?from=2025-01-01&to=2025-06-30
+     *
+     * 지금까지 조회된 경기 기준, from/to를 생략하면 처음부터/오늘까지
+     */
+    @GetMapping("/player/{gameName}/{tagLine}/stats/range")
+    public ResponseEntity<ApiResponse<MatchWindowStatsResponse>> getPlayerRangeStats(
+            @PathVariable String gameName,
+            @PathVariable String tagLine,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("플레이어 기간 통계 조회: {}#{}, {} ~ {}", gameName, tagLine, from, to);
+
+        MatchWindowStatsResponse stats = riotApiService.getPlayerRangeStats(gameName, tagLine, from, to);
+
+        return cacheable(ApiResponse.success(
+                String.format("%s#%s의 기간 통계 (%d경기)", gameName, tagLine, stats.getStats().getTotalGames()), stats));
+    }
+
+    /**
+     * ⏱️ 분당 성장 곡선 통계 (타임라인 기반)
+     *
+     * 사용법: GET /api/riot/player/Faker/KR1/timeline?count=10&minute=10
+     *
+     * 최근 count경기(최대 20)의 minute분 시점 CS/골드/경험치 평균 + 분당 평균 곡선
+     */
+    @GetMapping("/player/{gameName}/{tagLine}/timeline")
+    public DeferredResult<ResponseEntity<ApiResponse<TimelineStatsResponse>>> getPlayerTimelineStats(
+            @PathVariable String gameName,
+            @PathVariable String tagLine,
+            @RequestParam(defaultValue = "10") int count,
+            @RequestParam(defaultValue = "10") int minute,
+            @RequestParam(required = false) String region) {
+
+        log.info("플레이어 성장 곡선 조회: {}#{}, {}경기, {}분, region={}", gameName, tagLine, count, minute, region);
+
+        return deferred(riotApiService.getPlayerTimelineStatsAsync(gameName, tagLine, regionRouting.resolve(region),
+                Math.max(1, Math.min(count, 20)), Math.max(0, Math.min(minute, 60))),
+                stats -> cacheable(ApiResponse.success(
+                        String.format("%s#%s의 %d분 성장 지표 (%d경기)", gameName, tagLine, stats.getMinute(), stats.getGames()),
+                        stats)));
+    }
+
+    /**
+     * 🏆 서버 전체 챔피언 통계 (픽 수 / 승률 / 픽률 / KDA)
+     *
+     * 사용법: GET /api/riot/champions/stats?queueId=420&minPicks=10
+     *
+     * 지금까지 조회된 모든 경기의 참가자 전원 기준, queueId를 생략하면 모든 큐 합산
+     */
+    @GetMapping("/champions/stats")
+    public ResponseEntity<ApiResponse<ChampionAnalyticsResponse>> getChampionAnalytics(
+            @RequestParam(required = false) Integer queueId,
+            @RequestParam(defaultValue = "1") int minPicks) {
+
+        log.info("챔피언 통계 조회: queueId={}, minPicks={}", queueId, minPicks);
+
+        ChampionAnalyticsResponse analytics = riotApiService.getChampionAnalytics(queueId, minPicks);
+
+        return cacheable(ApiResponse.success(
+                String.format("챔피언 %d종 통계 (%d경기)", analytics.getChampions().size(), analytics.getTotalMatches()),
+                analytics));
+    }
+
+    /**
+     * 🔍 로비 스카우팅 (경기 하나의 참가자 10명 최근 폼)
+     *
+     * 사용법: GET /api/riot/matches/KR_7000000000/lobby?count=5
+     *
+     * 참가자 puuid를 경기에서 바로 읽어서 계정 조회 없이 10명을 동시에 조회 (최근 count경기, 최대 10)
+     */
+    @GetMapping("/matches/{matchId}/lobby")
+    public DeferredResult<ResponseEntity<ApiResponse<LobbyFormResponse>>> getLobbyForm(
+            @PathVariable String matchId,
+            @RequestParam(defaultValue = "5") int count) {
+
+        log.info("로비 스카우팅 조회: {}, {}경기", matchId, count);
+
+        return deferred(riotApiService.getLobbyFormAsync(matchId, Math.max(1, Math.min(count, 10))),
+                lobby -> cacheable(ApiResponse.success(
+                        String.format("%s 참가자 %d명의 최근 폼", matchId, lobby.getPlayers().size()), lobby)));
+    }
+
+    /**
+     * 📡 스트리밍 전적 조회 (Server-Sent Events)
+     * 
+     * 사용법: GET /api/riot/player/Faker/KR1/matches/stream?count=5
+     * 
+     * 이벤트 순서:
+     * - account: 플레이어 기본 정보 (Riot 호출 1회 후 바로 전송)
+     * - match: {index, match} 경기 하나가 준비될 때마다 (완료 순서, index로 정렬 가능)
+     * - match-failed: {index, matchId} 조회 실패한 경기
+     * - stats: 통계 요약
+     * - error: 실패 시 ApiResponse 에러
+     */
+    @GetMapping(value = "/player/{gameName}/{tagLine}/matches/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPlayerMatches(
+            @PathVariable String gameName,
+            @PathVariable String tagLine,
+            @RequestParam(defaultValue = "5") int count,
+            @RequestParam(required = false) String region) {
+        
+        log.info("플레이어 전적 스트리밍 조회: {}#{}, {}경기, region={}", gameName, tagLine, count, region);
+        
+        RiotRegion riotRegion = regionRouting.resolve(region); // 알 수 없는 지역은 스트림 시작 전에 400
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        riotStreamExecutor.execute(() -> {
+            try {
+                riotApiService.streamPlayerMatchHistory(gameName, tagLine, riotRegion, Math.min(count, 10),
+                        new SseMatchHistoryListener(emitter));
+                emitter.complete();
+            } catch (Exception e) {
+                log.error("스트리밍 전적 조회 실패: {}", e.getMessage());
+                send(emitter, "error", ApiResponse.error("전적을 가져오는 중 오류가 발생했습니다: " + e.getMessage()));
+                emitter.complete();
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * 🔧 헬퍼: 비동기 조회 결과 → DeferredResult
+     *
+     * Tomcat 워커는 바로 반환되고, 조회가 끝나면 응답을 이어서 보낸다.
+     * 실패는 컨트롤러에서 던진 것처럼 GlobalExceptionHandler로 (503/404 등 그대로),
+     * riot.async.timeout-ms가 지나면 AsyncRequestTimeoutException → 504
+     * (시간 초과 시 future를 취소 - 아직 riot-request 대기열에 있던 조회는 실행되지 않음)
+     */
+    private <T> DeferredResult<ResponseEntity<ApiResponse<T>>> deferred(
+            CompletableFuture<T> future, Function<T, ResponseEntity<ApiResponse<T>>> toResponse) {
+        DeferredResult<ResponseEntity<ApiResponse<T>>> result = new DeferredResult<>(asyncTimeoutMs);
+        result.onTimeout(() -> future.cancel(false));
+        future.whenComplete((value, error) -> {
+            if (future.isCancelled()) {
+                return; // 시간 초과로 취소됨 - 504는 Spring 시간 초과 처리로
+            }
+            if (error != null) {
+                result.setErrorResult(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+                return;
+            }
+            try {
+                result.setResult(toResponse.apply(value));
+            } catch (RuntimeException e) {
+                result.setErrorResult(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 🔧 헬퍼: 캐시 헤더 추가 (ETag = 응답 데이터 해시, Cache-Control max-age)
+     *
+     * If-None-Match가 ETag와 같으면 Spring이 본문 없이 304로 응답한다.
+     * (message/timestamp는 매번 바뀌므로 data만 해시)
+     */
+    private <T> ResponseEntity<ApiResponse<T>> cacheable(ApiResponse<T> body) {
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .staleWhileRevalidate(Duration.ofSeconds(staleWhileRevalidateSeconds));
+        return ResponseEntity.ok()
+                .eTag(contentHash(body.getData()))
+                .cacheControl(sharedCache ? cacheControl.cachePublic() : cacheControl.cachePrivate())
+                .body(body);
+    }
+
+    private String contentHash(Object data) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(data));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 해시 계산 실패", e);
+        }
+    }
+
+    private static void send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 먼저 끊은 경우 - 남은 이벤트는 버림
+            log.debug("SSE 전송 실패 ({}): {}", event, e.getMessage());
+        }
+    }
+
+    /**
+     * 🔧 전적 조회 진행 상황 → SSE 이벤트
+     */
+    @RequiredArgsConstructor
+    private static class SseMatchHistoryListener implements MatchHistoryListener {
+
+        private final SseEmitter emitter;
+
+        @Override
+        public void onAccount(AccountResponse account) {
+            send(emitter, "account", account);
+        }
+
+        @Override
+        public void onMatch(int index, MatchDetailResponse match) {
+            send(emitter, "match", Map.of("index", index, "match", match));
+        }
+
+        @Override
+        public void onMatchFailed(int index, String matchId) {
+            send(emitter, "match-failed", Map.of("index", index, "matchId", matchId));
+        }
+
+        @Override
+        public void onStats(MatchStatsResponse stats) {
+            send(emitter, "stats", stats);
+        }
     }
 }
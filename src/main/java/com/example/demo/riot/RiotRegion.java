@@ -0,0 +1,95 @@
+package com.example.demo.riot;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 🌏 Riot 지역 라우팅 값 (regional routing)
+ *
+ * account-v1 / match-v5는 플랫폼(KR, NA1 ...)이 아니라 지역 클러스터 단위로 호출하고,
+ * 호출 한도도 지역마다 따로 매겨진다.
+ * - 경기 상세/타임라인: 경기 ID 접두사(KR_, EUW1_ ...)의 플랫폼으로 지역이 정해짐
+ * - 경기 목록: 플레이어가 속한 지역 (요청의 region 파라미터, 없으면 기본 지역)
+ * - 계정: 어느 지역에서나 같은 결과 - sea는 account-v1을 제공하지 않아서 asia로 호출
+ */
+public enum RiotRegion {
+    AMERICAS("americas", "NA1", "BR1", "LA1", "LA2"),
+    ASIA("asia", "KR", "JP1"),
+    EUROPE("europe", "EUN1", "EUW1", "TR1", "RU", "ME1"),
+    SEA("sea", "OC1", "PH2", "SG2", "TH2", "TW2", "VN2");
+
+    private final String tag;
+    private final String[] platforms;
+
+    RiotRegion(String tag, String... platforms) {
+        this.tag = tag;
+        this.platforms = platforms;
+    }
+
+    /**
+     * URL 호스트 접두사 겸 지표 태그 (asia.api.riotgames.com → asia)
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * account-v1을 호출할 지역
+     */
+    public RiotRegion accountRegion() {
+        return this == SEA ? ASIA : this;
+    }
+
+    /**
+     * 지역 이름(asia) 또는 플랫폼 이름(kr, euw1) → 지역 (대소문자 무관)
+     */
+    public static Optional<RiotRegion> parse(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        for (RiotRegion region : values()) {
+            if (region.name().equals(normalized)) {
+                return Optional.of(region);
+            }
+        }
+        return fromPlatform(normalized);
+    }
+
+    /**
+     * 경기 ID 접두사(KR_123 → KR)의 지역
+     */
+    public static Optional<RiotRegion> fromMatchId(String matchId) {
+        int separator = matchId.indexOf('_');
+        return separator > 0 ? fromPlatform(matchId.substring(0, separator)) : Optional.empty();
+    }
+
+    /**
+     * 호출 URL 호스트의 지역 (asia.api.riotgames.com → ASIA, 알 수 없으면 empty)
+     */
+    public static Optional<RiotRegion> fromHost(String host) {
+        if (host == null) {
+            return Optional.empty();
+        }
+        int dot = host.indexOf('.');
+        String prefix = dot > 0 ? host.substring(0, dot) : host;
+        for (RiotRegion region : values()) {
+            if (region.tag.equalsIgnoreCase(prefix)) {
+                return Optional.of(region);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<RiotRegion> fromPlatform(String platform) {
+        String normalized = platform.toUpperCase(Locale.ROOT);
+        for (RiotRegion region : values()) {
+            for (String candidate : region.platforms) {
+                if (candidate.equals(normalized)) {
+                    return Optional.of(region);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
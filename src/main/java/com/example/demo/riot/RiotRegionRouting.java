@@ -0,0 +1,64 @@
+package com.example.demo.riot;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+
+/**
+ * 🌏 요청별 Riot 지역 결정 + 지역별 호출 URL
+ *
+ * - 기본 지역: riot.platform-route (region 파라미터가 없는 요청)
+ * - 호출 URL: riot.base-url의 {region}을 지역 태그로 치환
+ * - 인터셉터/HTTP 클라이언트는 URL 호스트로 지역을 되찾아서 지역별 풀/한도/지표를 고른다
+ *   (base-url에 {region}이 없으면 - 로컬 Riot 대역 등 - 모든 호출이 기본 지역으로 잡힘)
+ */
+@Component
+public class RiotRegionRouting {
+
+    private final RiotRegion defaultRegion;
+    private final String baseUrlTemplate;
+
+    public RiotRegionRouting(@Value("${riot.platform-route}") String platformRoute,
+                             @Value("${riot.base-url:https://{region}.api.riotgames.com}") String baseUrlTemplate) {
+        this.defaultRegion = RiotRegion.parse(platformRoute)
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 riot.platform-route: " + platformRoute));
+        this.baseUrlTemplate = baseUrlTemplate;
+    }
+
+    public RiotRegion getDefaultRegion() {
+        return defaultRegion;
+    }
+
+    /**
+     * 요청 파라미터(지역 또는 플랫폼 이름) → 지역, 없으면 기본 지역
+     */
+    public RiotRegion resolve(String region) {
+        if (region == null || region.isBlank()) {
+            return defaultRegion;
+        }
+        return RiotRegion.parse(region)
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 지역입니다: " + region));
+    }
+
+    /**
+     * 경기 ID가 속한 지역 (접두사를 모르면 기본 지역)
+     */
+    public RiotRegion forMatch(String matchId) {
+        return RiotRegion.fromMatchId(matchId).orElse(defaultRegion);
+    }
+
+    /**
+     * 호출 URL의 지역 (호스트로 알 수 없으면 기본 지역)
+     */
+    public RiotRegion regionOf(URI uri) {
+        return RiotRegion.fromHost(uri.getHost()).orElse(defaultRegion);
+    }
+
+    /**
+     * 지역 호출 URL (base-url + 경로)
+     */
+    public String url(RiotRegion region, String pathFormat, Object... args) {
+        return baseUrlTemplate.replace("{region}", region.getTag()) + String.format(pathFormat, args);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.riot;
+
+/**
+ * 🎮 Riot API 라우트 구분
+ *
+ * Riot은 메서드(엔드포인트)별로 별도의 호출 한도를 두기 때문에
+ * 호출 URL을 라우트 단위로 묶어서 한도/통계를 관리한다.
+ */
+public enum RiotRoute {
+    ACCOUNT_V1("account-v1", "/riot/account/v1/accounts/by-riot-id/{gameName}/{tagLine}"),
+    MATCH_V5_IDS("match-v5-ids", "/lol/match/v5/matches/by-puuid/{puuid}/ids"),
+    MATCH_V5_DETAIL("match-v5-detail", "/lol/match/v5/matches/{matchId}"),
+    MATCH_V5_TIMELINE("match-v5-timeline", "/lol/match/v5/matches/{matchId}/timeline"),
+    OTHER("other", "other");
+
+    private final String tag;
+    private final String uriTemplate;
+
+    RiotRoute(String tag, String uriTemplate) {
+        this.tag = tag;
+        this.uriTemplate = uriTemplate;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * 지표 태그용 경로 템플릿 (실제 URL은 puuid/api_key가 들어가서 태그로 쓰면 안 됨)
+     */
+    public String getUriTemplate() {
+        return uriTemplate;
+    }
+
+    /**
+     * 요청 경로로 라우트 판별 (api_key 등 쿼리 파라미터는 보지 않음)
+     */
+    public static RiotRoute fromPath(String path) {
+        if (path == null) {
+            return OTHER;
+        }
+        if (path.startsWith("/riot/account/v1/")) {
+            return ACCOUNT_V1;
+        }
+        if (path.startsWith("/lol/match/v5/matches/by-puuid/")) {
+            return MATCH_V5_IDS;
+        }
+        if (path.startsWith("/lol/match/v5/matches/") && path.endsWith("/timeline")) {
+            return MATCH_V5_TIMELINE;
+        }
+        if (path.startsWith("/lol/match/v5/matches/")) {
+            return MATCH_V5_DETAIL;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.riot.analytics;
+
+/**
+ * 챔피언 집계 결과 한 건 (queueId: 전체 큐 합산이면 null)
+ *
+ * queueMatches = 해당 큐(또는 전체) 경기 수 - 픽률 분모
+ */
+public record ChampionAggregate(int championId, Integer queueId, int picks, int wins,
+                                long kills, long deaths, long assists, int queueMatches) {
+}
@@ -0,0 +1,61 @@
+package com.example.demo.riot.analytics;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 행 범위 [from, to)를 반씩 나눠서 병렬 집계 (fork-join)
+ *
+ * 잎 작업은 자기 누적 배열에만 쓰고, 합치기는 부모가 한다 - 공유 상태/잠금 없음
+ */
+class ChampionAggregationTask extends RecursiveTask<ChampionTotals> {
+
+    static final int LEAF_ROWS = 1 << 15;
+
+    private final ParticipantRows.Chunk[] chunks;
+    private final int queueCount;
+    private final int from;
+    private final int to;
+
+    ChampionAggregationTask(ParticipantRows.Chunk[] chunks, int queueCount, int from, int to) {
+        this.chunks = chunks;
+        this.queueCount = queueCount;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected ChampionTotals compute() {
+        if (to - from <= LEAF_ROWS) {
+            return aggregate();
+        }
+        int middle = (from + to) >>> 1;
+        ChampionAggregationTask left = new ChampionAggregationTask(chunks, queueCount, from, middle);
+        ChampionAggregationTask right = new ChampionAggregationTask(chunks, queueCount, middle, to);
+        left.fork();
+        ChampionTotals rightTotals = right.compute();
+        return ChampionTotals.merge(left.join(), rightTotals, to - from);
+    }
+
+    private ChampionTotals aggregate() {
+        ChampionTotals totals = new ChampionTotals(to - from, queueCount);
+        int row = from;
+        while (row < to) {
+            ParticipantRows.Chunk chunk = chunks[row >>> ParticipantRows.CHUNK_BITS];
+            int start = row & ParticipantRows.CHUNK_MASK;
+            int end = Math.min(ParticipantRows.CHUNK_SIZE, start + (to - row));
+            for (int i = start; i < end; i++) {
+                int queue = chunk.queue[i] & 0xFF;
+                int cell = queue * ChampionTotals.MAX_CHAMPIONS + (chunk.champion[i] & (ChampionTotals.MAX_CHAMPIONS - 1));
+                int flags = chunk.flags[i];
+                totals.picks[cell]++;
+                totals.wins[cell] += flags & ParticipantRows.FLAG_WIN;
+                totals.kills[cell] += chunk.kills[i];
+                totals.deaths[cell] += chunk.deaths[i];
+                totals.assists[cell] += chunk.assists[i];
+                totals.matches[queue] += (flags & ParticipantRows.FLAG_FIRST_OF_MATCH) >>> 1;
+            }
+            row += end - start;
+        }
+        return totals;
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.demo.riot.analytics;
+
+import com.example.demo.riot.archive.MatchArchive;
+import com.example.demo.riot.parser.MatchPayloadParser;
+import com.example.demo.riot.parser.MatchSummary;
+import com.example.demo.riot.parser.ParticipantStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🏆 서버 전체 챔피언 통계 (픽 수 / 승률 / KDA, 챔피언 x 큐)
+ *
+ * 지금까지 받은 모든 경기의 참가자 전원을 열 단위 행(ParticipantRows)으로 쌓아 두고,
+ * 조회 시 마지막 집계 이후 추가된 행만 fork-join으로 나눠 집계해서 이전 누적값에 더한다.
+ *
+ * - 새 경기: RiotApiService가 경기를 파싱할 때 record() (같은 경기는 한 번만)
+ * - 시작 시: 경기 아카이브에 보관된 경기를 백그라운드에서 다시 읽어서 채움
+ * - 누적 배열은 int 인덱스(큐 코드 x 챔피언 ID) - 맵/박싱 없음
+ */
+@Component
+@Slf4j
+public class ChampionAnalytics {
+
+    private final ParticipantRows rows = new ParticipantRows();
+    private final Set<String> recordedMatches = ConcurrentHashMap.newKeySet();
+    private final ForkJoinPool pool;
+    private final MatchArchive matchArchive;
+    private final MatchPayloadParser matchPayloadParser;
+    private final Timer refreshTimer;
+
+    @Value("${riot.analytics.backfill:true}")
+    private boolean backfill;
+
+    private volatile ChampionTotals totals = ChampionTotals.empty();
+
+    public ChampionAnalytics(MeterRegistry meterRegistry,
+                             MatchArchive matchArchive,
+                             MatchPayloadParser matchPayloadParser,
+                             @Value("${riot.analytics.parallelism:0}") int parallelism) {
+        this.matchArchive = matchArchive;
+        this.matchPayloadParser = matchPayloadParser;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.refreshTimer = Timer.builder("riot.analytics.refresh")
+                .description("챔피언 통계 증분 집계 시간")
+                .register(meterRegistry);
+        Gauge.builder("riot.analytics.rows", rows, ParticipantRows::size)
+                .description("챔피언 통계에 쌓인 참가자 행 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 시작 후 아카이브 경기로 행 채우기 (요청 처리와 별개로 백그라운드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillFromArchive() {
+        if (!backfill) {
+            return;
+        }
+        List<String> matchIds = matchArchive.matchIds();
+        if (matchIds.isEmpty()) {
+            return;
+        }
+        pool.execute(() -> {
+            long start = System.currentTimeMillis();
+            matchIds.parallelStream().forEach(this::recordArchived);
+            log.info("챔피언 통계 복원 완료: {}경기, 참가자 {}행, {}ms",
+                    recordedMatches.size(), rows.size(), System.currentTimeMillis() - start);
+        });
+    }
+
+    /**
+     * 경기 반영 (참가자 전원이 담긴 요약, 이미 반영한 경기는 무시)
+     */
+    public void record(MatchSummary match) {
+        if (match.getParticipants().isEmpty() || !recordedMatches.add(match.getMatchId())) {
+            return;
+        }
+        synchronized (rows) {
+            boolean first = true;
+            for (ParticipantStats player : match.getParticipants()) {
+                rows.add(player.getChampionId(), match.getQueueId(), player.isWin(), first,
+                        player.getKills(), player.getDeaths(), player.getAssists());
+                first = false;
+            }
+        }
+    }
+
+    public int matchCount() {
+        return recordedMatches.size();
+    }
+
+    public int rowCount() {
+        return rows.size();
+    }
+
+    /**
+     * 챔피언별 집계 (queueId가 null이면 모든 큐 합산), 픽 수 내림차순
+     */
+    public List<ChampionAggregate> aggregates(Integer queueId, int minPicks) {
+        ChampionTotals current = refresh();
+        int[] queueIds = rows.queueIds();
+
+        List<ChampionAggregate> result = new ArrayList<>();
+        if (queueId != null) {
+            int code = indexOf(queueIds, queueId, current.queueCount);
+            if (code < 0) {
+                return result;
+            }
+            for (int champion = 0; champion < ChampionTotals.MAX_CHAMPIONS; champion++) {
+                int cell = code * ChampionTotals.MAX_CHAMPIONS + champion;
+                if (current.picks[cell] >= Math.max(1, minPicks)) {
+                    result.add(new ChampionAggregate(champion, queueId, current.picks[cell], current.wins[cell],
+                            current.kills[cell], current.deaths[cell], current.assists[cell], current.matches[code]));
+                }
+            }
+        } else {
+            int allMatches = 0;
+            for (int q = 0; q < current.queueCount; q++) {
+                allMatches += current.matches[q];
+            }
+            for (int champion = 0; champion < ChampionTotals.MAX_CHAMPIONS; champion++) {
+                int picks = 0, wins = 0;
+                long kills = 0, deaths = 0, assists = 0;
+                for (int q = 0; q < current.queueCount; q++) {
+                    int cell = q * ChampionTotals.MAX_CHAMPIONS + champion;
+                    picks += current.picks[cell];
+                    wins += current.wins[cell];
+                    kills += current.kills[cell];
+                    deaths += current.deaths[cell];
+                    assists += current.assists[cell];
+                }
+                if (picks >= Math.max(1, minPicks)) {
+                    result.add(new ChampionAggregate(champion, null, picks, wins, kills, deaths, assists, allMatches));
+                }
+            }
+        }
+        result.sort((a, b) -> Integer.compare(b.picks(), a.picks()));
+        return result;
+    }
+
+    /**
+     * 마지막 집계 이후 추가된 행만 집계해서 누적값 갱신 (동시 조회는 한 번만 집계)
+     */
+    ChampionTotals refresh() {
+        ChampionTotals current = totals;
+        if (current.rows == rows.size()) {
+            return current;
+        }
+        synchronized (this) {
+            current = totals;
+            // size → 청크 → 큐 코드 순서로 읽어야 size 아래 행이 모두 보임
+            int size = rows.size();
+            ParticipantRows.Chunk[] chunks = rows.chunks();
+            int queueCount = rows.queueIds().length;
+            if (current.rows >= size) {
+                return current;
+            }
+            long start = System.nanoTime();
+            ChampionTotals delta = pool.invoke(new ChampionAggregationTask(chunks, queueCount, current.rows, size));
+            current = ChampionTotals.merge(current, delta, size);
+            totals = current;
+            refreshTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return current;
+        }
+    }
+
+    private void recordArchived(String matchId) {
+        if (recordedMatches.contains(matchId)) {
+            return;
+        }
+        matchArchive.get(matchId).ifPresent(payload -> {
+            try {
+                record(matchPayloadParser.parse(payload, matchId, null));
+            } catch (IOException e) {
+                log.debug("아카이브 경기 파싱 실패 - 챔피언 통계 제외: matchId={}", matchId);
+            }
+        });
+    }
+
+    private static int indexOf(int[] values, int value, int limit) {
+        for (int i = 0; i < Math.min(values.length, limit); i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
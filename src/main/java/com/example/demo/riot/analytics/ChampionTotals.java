@@ -0,0 +1,56 @@
+package com.example.demo.riot.analytics;
+
+/**
+ * 챔피언 x 큐 누적값 (인덱스 = 큐 코드 * MAX_CHAMPIONS + 챔피언 ID)
+ *
+ * rows = 이 누적값에 반영된 행 수 - 그 뒤에 추가된 행만 더 집계해서 plus()로 합친다.
+ */
+final class ChampionTotals {
+
+    static final int MAX_CHAMPIONS = 1024;
+
+    final int rows;
+    final int queueCount;
+    final int[] picks;
+    final int[] wins;
+    final long[] kills;
+    final long[] deaths;
+    final long[] assists;
+    final int[] matches;    // 큐별 경기 수
+
+    ChampionTotals(int rows, int queueCount) {
+        this.rows = rows;
+        this.queueCount = queueCount;
+        int cells = queueCount * MAX_CHAMPIONS;
+        this.picks = new int[cells];
+        this.wins = new int[cells];
+        this.kills = new long[cells];
+        this.deaths = new long[cells];
+        this.assists = new long[cells];
+        this.matches = new int[queueCount];
+    }
+
+    static ChampionTotals empty() {
+        return new ChampionTotals(0, 0);
+    }
+
+    /**
+     * 두 누적값 합치기 (큐 수가 다르면 큰 쪽 기준, 반영 행 수는 rows로 지정)
+     */
+    static ChampionTotals merge(ChampionTotals a, ChampionTotals b, int rows) {
+        ChampionTotals merged = new ChampionTotals(rows, Math.max(a.queueCount, b.queueCount));
+        merged.addAll(a);
+        merged.addAll(b);
+        return merged;
+    }
+
+    private void addAll(ChampionTotals other) {
+        int cells = other.picks.length;
+        for (int i = 0; i < cells; i++) picks[i] += other.picks[i];
+        for (int i = 0; i < cells; i++) wins[i] += other.wins[i];
+        for (int i = 0; i < cells; i++) kills[i] += other.kills[i];
+        for (int i = 0; i < cells; i++) deaths[i] += other.deaths[i];
+        for (int i = 0; i < cells; i++) assists[i] += other.assists[i];
+        for (int q = 0; q < other.queueCount; q++) matches[q] += other.matches[q];
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.riot.analytics;
+
+import java.util.Arrays;
+
+/**
+ * 서버 전체 참가자 행 (열 단위 원시 배열, 65536행씩 청크)
+ *
+ * 행 하나 = 경기 하나의 참가자 한 명. 추가만 하고 수정/삭제는 없다.
+ * - 쓰기: add()는 잠금 안에서 한 스레드씩
+ * - 읽기: size()를 먼저 읽고 그 아래 행만 보면 잠금 없이 안전 (size/청크 배열 모두 volatile 발행)
+ */
+class ParticipantRows {
+
+    static final int CHUNK_BITS = 16;
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    static final int FLAG_WIN = 1;
+    static final int FLAG_FIRST_OF_MATCH = 2; // 큐별 경기 수(픽률 분모) 계산용
+
+    private volatile Chunk[] chunks = new Chunk[0];
+    private volatile int size;
+
+    // 큐 ID → 0부터 시작하는 작은 코드 (누적 배열 인덱스)
+    private volatile int[] queueIds = new int[0];
+
+    int size() {
+        return size;
+    }
+
+    Chunk[] chunks() {
+        return chunks;
+    }
+
+    int[] queueIds() {
+        return queueIds;
+    }
+
+    synchronized void add(int championId, int queueId, boolean win, boolean firstOfMatch,
+                          int kills, int deaths, int assists) {
+        int row = size;
+        int chunkIndex = row >>> CHUNK_BITS;
+        if (chunkIndex == chunks.length) {
+            Chunk[] grown = Arrays.copyOf(chunks, chunkIndex + 1);
+            grown[chunkIndex] = new Chunk();
+            chunks = grown;
+        }
+        Chunk chunk = chunks[chunkIndex];
+        int i = row & CHUNK_MASK;
+        chunk.champion[i] = (short) championId;
+        chunk.queue[i] = (byte) queueCode(queueId);
+        chunk.flags[i] = (byte) ((win ? FLAG_WIN : 0) | (firstOfMatch ? FLAG_FIRST_OF_MATCH : 0));
+        chunk.kills[i] = (short) kills;
+        chunk.deaths[i] = (short) deaths;
+        chunk.assists[i] = (short) assists;
+        size = row + 1;
+    }
+
+    private int queueCode(int queueId) {
+        int[] known = queueIds;
+        for (int code = 0; code < known.length; code++) {
+            if (known[code] == queueId) {
+                return code;
+            }
+        }
+        if (known.length == 255) {
+            throw new IllegalStateException("큐 종류가 너무 많습니다");
+        }
+        int[] grown = Arrays.copyOf(known, known.length + 1);
+        grown[known.length] = queueId;
+        queueIds = grown;
+        return known.length;
+    }
+
+    static final class Chunk {
+        final short[] champion = new short[CHUNK_SIZE];
+        final byte[] queue = new byte[CHUNK_SIZE];
+        final byte[] flags = new byte[CHUNK_SIZE];
+        final short[] kills = new short[CHUNK_SIZE];
+        final short[] deaths = new short[CHUNK_SIZE];
+        final short[] assists = new short[CHUNK_SIZE];
+    }
+}
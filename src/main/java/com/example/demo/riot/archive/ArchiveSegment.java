@@ -0,0 +1,141 @@
+package com.example.demo.riot.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 경기 아카이브 세그먼트 파일 하나
+ *
+ * - 쓰기: 마지막 온전한 레코드 끝(writePosition)에만 추가 (append-only)
+ *   쓰다 실패하면 writePosition을 그대로 두고 꼬리를 잘라내서, 다음 레코드가 찢어진 자리부터 다시 씀
+ * - 읽기: 파일을 메모리 맵으로 열어서 복사 없이 접근, 파일이 커지면 다시 매핑
+ * - 복구: 매핑 없이 채널로 읽음 (매핑이 살아 있으면 Windows에서 truncate 실패)
+ */
+class ArchiveSegment implements AutoCloseable {
+
+    private final int id;
+    private final Path path;
+    private final FileChannel channel;
+    private volatile MappedByteBuffer mapped;
+    // 온전히 기록된 마지막 레코드의 끝 - MatchArchive 락 안에서만 읽고 씀
+    private long writePosition;
+
+    ArchiveSegment(int id, Path path) throws IOException {
+        this.id = id;
+        this.path = path;
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.writePosition = channel.size();
+    }
+
+    int getId() {
+        return id;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * 온전히 기록된 크기 (실패한 쓰기가 남긴 꼬리는 빼고)
+     */
+    long size() {
+        return writePosition;
+    }
+
+    /**
+     * writePosition에 레코드 추가 후 레코드 시작 위치 반환
+     *
+     * 중간에 실패하면 찢어진 레코드를 잘라내고 예외를 그대로 던진다.
+     * 잘라내기까지 실패해도 writePosition은 레코드 시작에 남아 있어서 다음 추가가 그 자리를 덮어쓰고,
+     * 그 전에 재시작하면 복구가 찢어진 레코드(마지막 온전한 레코드 뒤)부터 잘라낸다.
+     */
+    long append(ByteBuffer record, boolean fsync) throws IOException {
+        long position = writePosition;
+        int length = record.remaining();
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record, position + record.position());
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            discardTail(position, e);
+            throw e;
+        }
+        writePosition = position + length;
+        return position;
+    }
+
+    private void discardTail(long position, IOException cause) {
+        try {
+            if (channel.size() > position) {
+                channel.truncate(position);
+            }
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * 복구 스캔용 - position부터 dst가 찰 때까지 채널에서 읽음 (파일 끝이면 false)
+     */
+    boolean readFully(ByteBuffer dst, long position) throws IOException {
+        while (dst.hasRemaining()) {
+            int read = channel.read(dst, position + dst.position());
+            if (read < 0) {
+                return false;
+            }
+        }
+        dst.flip();
+        return true;
+    }
+
+    /**
+     * 복구 시 깨진 꼬리 레코드 잘라내기 - 아직 매핑하기 전에만 호출
+     */
+    synchronized void truncate(long size) throws IOException {
+        channel.truncate(size);
+        channel.force(true);
+        writePosition = size;
+        mapped = null;
+    }
+
+    /**
+     * [offset, offset + length) 구간 읽기 - 메모리 맵 사용
+     */
+    byte[] read(long offset, int length) throws IOException {
+        MappedByteBuffer buffer = mapped;
+        if (buffer == null || offset + length > buffer.capacity()) {
+            buffer = remap(offset + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.duplicate().position((int) offset).get(bytes, 0, length);
+        return bytes;
+    }
+
+    private synchronized MappedByteBuffer remap(long required) throws IOException {
+        MappedByteBuffer current = mapped;
+        if (current != null && required <= current.capacity()) {
+            return current;
+        }
+        long size = channel.size();
+        if (required > size) {
+            throw new IOException("세그먼트 범위를 벗어난 읽기: " + path + " @" + required);
+        }
+        current = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        mapped = current;
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        mapped = null;
+        channel.close();
+    }
+}
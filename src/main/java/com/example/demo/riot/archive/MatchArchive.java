@@ -0,0 +1,260 @@
+package com.example.demo.riot.archive;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 🗄️ 경기 원본(match-v5) 아카이브
+ *
+ * 끝난 경기는 바뀌지 않으므로 한 번 받은 원본 JSON을 로컬에 영구 보관한다.
+ *
+ * 저장 형식 (세그먼트 파일 segment-00000.dat ...):
+ *   [magic int][matchId 길이 short][matchId UTF-8][payload 길이 int][CRC32 int][gzip payload]
+ *
+ * - 쓰기: 활성 세그먼트 끝에 추가, 가득 차면 다음 세그먼트로
+ * - 인덱스: matchId → (세그먼트, 위치, 길이) 메모리 인덱스, 시작 시 세그먼트를 훑어서 재구성
+ * - 복구: 길이/CRC가 맞지 않는 레코드(쓰다 만 꼬리)부터 잘라냄
+ */
+@Component
+@Slf4j
+public class MatchArchive {
+
+    private static final int MAGIC = 0x4D415243; // "MARC"
+    private static final int HEADER_FIXED_BYTES = 4 + 2 + 4 + 4;
+
+    @Value("${riot.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${riot.archive.dir:./data/match-archive}")
+    private String directory;
+
+    @Value("${riot.archive.segment-bytes:67108864}")
+    private long segmentBytes;
+
+    @Value("${riot.archive.fsync:false}")
+    private boolean fsync;
+
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    private final List<ArchiveSegment> segments = new ArrayList<>();
+    private ArchiveSegment active;
+
+    /**
+     * 시작 시 기존 세그먼트를 훑어서 인덱스 재구성 (깨진 꼬리는 잘라냄)
+     */
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        // 읽기는 세그먼트 하나를 통째로 매핑하므로 int 범위(2GB)를 넘을 수 없음
+        if (segmentBytes <= 0 || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("riot.archive.segment-bytes는 1 ~ " + Integer.MAX_VALUE
+                    + " 사이여야 합니다: " + segmentBytes);
+        }
+        Path dir = Paths.get(directory);
+        Files.createDirectories(dir);
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(dir)) {
+            files = stream.filter(p -> p.getFileName().toString().matches("segment-\\d{5}\\.dat"))
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            ArchiveSegment segment = new ArchiveSegment(Integer.parseInt(name.substring(8, 13)), file);
+            recover(segment);
+            segments.add(segment);
+        }
+        active = segments.isEmpty() ? newSegment(0) : segments.get(segments.size() - 1);
+        log.info("경기 아카이브 로드 완료: {}개 경기, 세그먼트 {}개", index.size(), segments.size());
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        for (ArchiveSegment segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.warn("세그먼트 닫기 실패: {}", segment.getPath());
+            }
+        }
+        segments.clear();
+        index.clear();
+    }
+
+    /**
+     * 보관된 원본 JSON 조회 (없으면 empty)
+     */
+    public Optional<byte[]> get(String matchId) {
+        Location location = index.get(matchId);
+        if (location == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(gunzip(location.segment().read(location.offset(), location.length())));
+        } catch (IOException e) {
+            log.warn("아카이브 읽기 실패 - 원격 조회로 대체: matchId={}, 원인={}", matchId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public boolean contains(String matchId) {
+        return index.containsKey(matchId);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * 보관된 경기 ID 전체 (재집계용 스냅샷)
+     */
+    public List<String> matchIds() {
+        return List.copyOf(index.keySet());
+    }
+
+    /**
+     * 원본 JSON 보관 (이미 있으면 무시)
+     */
+    public void put(String matchId, byte[] payload) {
+        if (!enabled || index.containsKey(matchId)) {
+            return;
+        }
+        byte[] id = matchId.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = gzip(payload);
+        CRC32 crc = new CRC32();
+        crc.update(compressed);
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_FIXED_BYTES + id.length + compressed.length);
+        record.putInt(MAGIC)
+                .putShort((short) id.length)
+                .put(id)
+                .putInt(compressed.length)
+                .putInt((int) crc.getValue())
+                .put(compressed)
+                .flip();
+
+        synchronized (this) {
+            if (index.containsKey(matchId)) {
+                return;
+            }
+            try {
+                if (active.size() > 0 && active.size() + record.remaining() > segmentBytes) {
+                    active = newSegment(active.getId() + 1);
+                }
+                long start = active.append(record, fsync);
+                long payloadOffset = start + HEADER_FIXED_BYTES + id.length;
+                index.put(matchId, new Location(active, payloadOffset, compressed.length));
+            } catch (IOException e) {
+                log.warn("아카이브 저장 실패: matchId={}, 원인={}", matchId, e.getMessage());
+            }
+        }
+    }
+
+    private ArchiveSegment newSegment(int id) throws IOException {
+        Path path = Paths.get(directory, String.format("segment-%05d.dat", id));
+        ArchiveSegment segment = new ArchiveSegment(id, path);
+        segments.add(segment);
+        return segment;
+    }
+
+    /**
+     * 세그먼트를 처음부터 읽으며 인덱스에 올리고, 첫 번째 깨진 레코드 위치에서 잘라냄
+     * (매핑 없이 채널로 읽으므로 잘라낼 때 살아 있는 매핑이 없음)
+     */
+    private void recover(ArchiveSegment segment) throws IOException {
+        long fileSize = segment.size();
+        long position = 0;
+        while (position < fileSize) {
+            long next = validRecordEnd(segment, position, fileSize);
+            if (next < 0) {
+                log.warn("아카이브 손상 레코드 발견 - 잘라냄: {} @{} (파일 크기 {})",
+                        segment.getPath(), position, fileSize);
+                segment.truncate(position);
+                return;
+            }
+            position = next;
+        }
+    }
+
+    /**
+     * position의 레코드가 온전하면 인덱스에 올리고 다음 레코드 위치 반환, 아니면 -1
+     */
+    private long validRecordEnd(ArchiveSegment segment, long position, long fileSize) throws IOException {
+        ByteBuffer head = ByteBuffer.allocate(6);
+        if (position + HEADER_FIXED_BYTES > fileSize || !segment.readFully(head, position)
+                || head.getInt() != MAGIC) {
+            return -1;
+        }
+        int idLength = head.getShort();
+        if (idLength <= 0 || position + HEADER_FIXED_BYTES + idLength > fileSize) {
+            return -1;
+        }
+        ByteBuffer idAndLengths = ByteBuffer.allocate(idLength + 8);
+        if (!segment.readFully(idAndLengths, position + 6)) {
+            return -1;
+        }
+        byte[] id = new byte[idLength];
+        idAndLengths.get(id);
+        int payloadLength = idAndLengths.getInt();
+        int crcValue = idAndLengths.getInt();
+        long payloadOffset = position + HEADER_FIXED_BYTES + idLength;
+        if (payloadLength < 0 || payloadOffset + payloadLength > fileSize) {
+            return -1;
+        }
+        ByteBuffer payload = ByteBuffer.allocate(payloadLength);
+        if (!segment.readFully(payload, payloadOffset)) {
+            return -1;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        if ((int) crc.getValue() != crcValue) {
+            return -1;
+        }
+        index.put(new String(id, StandardCharsets.UTF_8), new Location(segment, payloadOffset, payloadLength));
+        return payloadOffset + payloadLength;
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private record Location(ArchiveSegment segment, long offset, int length) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.riot.cache;
+
+import com.example.demo.riot.dto.AccountResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 🗂️ Riot ID → 계정(PUUID) 캐시
+ *
+ * - 찾은 계정: 길게 보관 (PUUID는 바뀌지 않고, 닉네임 변경은 TTL로 흡수)
+ * - 없는 계정(404): 짧게 보관해서 오타 닉네임 재조회를 막음
+ * - 키는 대소문자/앞뒤 공백 무시 (Riot ID는 대소문자 구분 없음)
+ */
+@Component
+public class AccountCache {
+
+    private final TtlCache<String, AccountResponse> found;
+    private final TtlCache<String, Boolean> notFound;
+
+    public AccountCache(MeterRegistry meterRegistry,
+                        @Value("${riot.cache.account.max-size:10000}") int maxSize,
+                        @Value("${riot.cache.account.ttl-seconds:3600}") long ttlSeconds,
+                        @Value("${riot.cache.account.negative-max-size:2000}") int negativeMaxSize,
+                        @Value("${riot.cache.account.negative-ttl-seconds:300}") long negativeTtlSeconds) {
+        this.found = new TtlCache<>(maxSize, ttlSeconds * 1000L);
+        this.notFound = new TtlCache<>(negativeMaxSize, negativeTtlSeconds * 1000L);
+        registerMetrics(meterRegistry, "account", found);
+        registerMetrics(meterRegistry, "account-negative", notFound);
+    }
+
+    public static String key(String gameName, String tagLine) {
+        return gameName.trim().toLowerCase(Locale.ROOT) + "#" + tagLine.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public AccountResponse get(String key) {
+        return found.get(key);
+    }
+
+    public boolean isKnownMissing(String key) {
+        return notFound.get(key) != null;
+    }
+
+    public void put(String key, AccountResponse account) {
+        found.put(key, account);
+        notFound.remove(key);
+    }
+
+    public void putMissing(String key) {
+        notFound.put(key, Boolean.TRUE);
+    }
+
+    private static void registerMetrics(MeterRegistry registry, String name, TtlCache<?, ?> cache) {
+        FunctionCounter.builder("riot.cache.gets", cache, TtlCache::getHits)
+                .tag("cache", name).tag("result", "hit").register(registry);
+        FunctionCounter.builder("riot.cache.gets", cache, TtlCache::getMisses)
+                .tag("cache", name).tag("result", "miss").register(registry);
+        FunctionCounter.builder("riot.cache.evictions", cache, TtlCache::getEvictions)
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("riot.cache.expirations", cache, TtlCache::getExpirations)
+                .tag("cache", name).register(registry);
+        Gauge.builder("riot.cache.size", cache, TtlCache::size)
+                .tag("cache", name).register(registry);
+    }
+}
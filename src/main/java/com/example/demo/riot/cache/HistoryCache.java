@@ -0,0 +1,120 @@
+package com.example.demo.riot.cache;
+
+import com.example.demo.riot.RiotRegion;
+import com.example.demo.riot.dto.PlayerMatchHistoryResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 🗂️ 전적 응답 캐시 (stale-while-revalidate)
+ *
+ * - soft TTL 이내: 캐시 그대로 응답
+ * - soft TTL 지남 ~ hard TTL 이내: 캐시를 바로 응답하고 백그라운드에서 한 번만 갱신
+ * - hard TTL 지남 / 없음: 동기 조회 (같은 키 동시 조회는 한 번만)
+ *
+ * 트래픽이 몰려도 같은 전적은 soft TTL마다 최대 한 번만 Riot에 다시 묻는다.
+ */
+@Component
+@Slf4j
+public class HistoryCache {
+
+    private final TtlCache<String, Entry> entries;
+    private final SingleFlight<String, PlayerMatchHistoryResponse> loads = new SingleFlight<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService riotStreamExecutor;
+    private final long softTtlMillis;
+
+    private final AtomicLong staleServed = new AtomicLong();
+    private final AtomicLong refreshFailures = new AtomicLong();
+
+    public HistoryCache(MeterRegistry meterRegistry,
+                        ExecutorService riotStreamExecutor,
+                        @Value("${riot.cache.history.max-size:5000}") int maxSize,
+                        @Value("${riot.cache.history.soft-ttl-seconds:60}") long softTtlSeconds,
+                        @Value("${riot.cache.history.hard-ttl-seconds:600}") long hardTtlSeconds) {
+        this.entries = new TtlCache<>(maxSize, hardTtlSeconds * 1000L);
+        this.riotStreamExecutor = riotStreamExecutor;
+        this.softTtlMillis = softTtlSeconds * 1000L;
+        registerMetrics(meterRegistry);
+    }
+
+    public static String key(String gameName, String tagLine, RiotRegion region, int count) {
+        return region.getTag() + ":" + AccountCache.key(gameName, tagLine) + ":" + count;
+    }
+
+    /**
+     * 캐시 조회 - 없으면 loader로 조회, 오래됐으면 캐시 응답 후 백그라운드 갱신
+     */
+    public PlayerMatchHistoryResponse get(String key, Supplier<PlayerMatchHistoryResponse> loader) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return load(key, loader);
+        }
+        if (System.currentTimeMillis() - entry.loadedAt() > softTtlMillis) {
+            staleServed.incrementAndGet();
+            refreshInBackground(key, loader);
+        }
+        return entry.history();
+    }
+
+    private PlayerMatchHistoryResponse load(String key, Supplier<PlayerMatchHistoryResponse> loader) {
+        return loads.execute(key, () -> {
+            PlayerMatchHistoryResponse history = loader.get();
+            entries.put(key, new Entry(history, System.currentTimeMillis()));
+            return history;
+        });
+    }
+
+    private void refreshInBackground(String key, Supplier<PlayerMatchHistoryResponse> loader) {
+        if (!refreshing.add(key)) {
+            return; // 이미 갱신 중
+        }
+        try {
+            riotStreamExecutor.execute(() -> {
+                try {
+                    load(key, loader);
+                } catch (RuntimeException e) {
+                    refreshFailures.incrementAndGet();
+                    log.debug("전적 백그라운드 갱신 실패 - 기존 캐시 유지: key={}, 원인={}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("riot.cache.gets", entries, TtlCache::getHits)
+                .tag("cache", "history").tag("result", "hit").register(registry);
+        FunctionCounter.builder("riot.cache.gets", entries, TtlCache::getMisses)
+                .tag("cache", "history").tag("result", "miss").register(registry);
+        FunctionCounter.builder("riot.cache.evictions", entries, TtlCache::getEvictions)
+                .tag("cache", "history").register(registry);
+        FunctionCounter.builder("riot.cache.expirations", entries, TtlCache::getExpirations)
+                .tag("cache", "history").register(registry);
+        Gauge.builder("riot.cache.size", entries, TtlCache::size)
+                .tag("cache", "history").register(registry);
+        FunctionCounter.builder("riot.cache.stale.served", staleServed, AtomicLong::get)
+                .tag("cache", "history")
+                .description("오래된 캐시로 응답하고 백그라운드 갱신한 횟수")
+                .register(registry);
+        FunctionCounter.builder("riot.cache.refresh.failures", refreshFailures, AtomicLong::get)
+                .tag("cache", "history").register(registry);
+    }
+
+    private record Entry(PlayerMatchHistoryResponse history, long loadedAt) {
+    }
+}
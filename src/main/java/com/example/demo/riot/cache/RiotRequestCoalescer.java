@@ -0,0 +1,62 @@
+package com.example.demo.riot.cache;
+
+import com.example.demo.riot.dto.AccountResponse;
+import com.example.demo.riot.parser.MatchSummary;
+import com.example.demo.riot.parser.MatchTimeline;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 🤝 Riot 조회 단계별 동시 요청 합치기
+ *
+ * 인기 플레이어 조회가 몰리면 같은 계정/경기 목록/경기 상세를 동시에 여러 번 부르게 되므로
+ * 단계마다 진행 중인 호출 하나만 Riot에 보내고 나머지는 결과를 공유한다.
+ * 합쳐진 요청 수는 riot.coalesced{level=...} 지표로 노출.
+ */
+@Component
+public class RiotRequestCoalescer {
+
+    private final SingleFlight<String, AccountResponse> accounts = new SingleFlight<>();
+    private final SingleFlight<String, List<String>> matchIds = new SingleFlight<>();
+    private final SingleFlight<String, MatchSummary> matchDetails = new SingleFlight<>();
+    private final SingleFlight<String, MatchTimeline> matchTimelines = new SingleFlight<>();
+
+    public RiotRequestCoalescer(MeterRegistry meterRegistry) {
+        register(meterRegistry, "account", accounts);
+        register(meterRegistry, "match-ids", matchIds);
+        register(meterRegistry, "match-detail", matchDetails);
+        register(meterRegistry, "match-timeline", matchTimelines);
+    }
+
+    public AccountResponse account(String key, Supplier<AccountResponse> loader) {
+        return accounts.execute(key, loader);
+    }
+
+    public List<String> matchIds(String key, Supplier<List<String>> loader) {
+        return matchIds.execute(key, loader);
+    }
+
+    public MatchSummary matchDetail(String matchId, Supplier<MatchSummary> loader) {
+        return matchDetails.execute(matchId, loader);
+    }
+
+    public MatchTimeline matchTimeline(String matchId, Supplier<MatchTimeline> loader) {
+        return matchTimelines.execute(matchId, loader);
+    }
+
+    public long getCoalescedCount() {
+        return accounts.getCoalescedCount() + matchIds.getCoalescedCount() + matchDetails.getCoalescedCount()
+                + matchTimelines.getCoalescedCount();
+    }
+
+    private static void register(MeterRegistry registry, String level, SingleFlight<?, ?> flight) {
+        FunctionCounter.builder("riot.coalesced", flight, SingleFlight::getCoalescedCount)
+                .tag("level", level)
+                .description("진행 중인 동일 Riot 조회에 합쳐진 요청 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.demo.riot.columnar;
+
+import com.example.demo.riot.parser.MatchSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 🧱 플레이어별 열 저장소 (장기 전적 분석용)
+ *
+ * 경기마다 MatchDetailResponse 객체를 들고 있는 대신 puuid마다 원시 배열 묶음(PlayerMatchColumns)으로 보관한다.
+ * 수천 경기 단위의 구간 통계도 배열 몇 개를 훑는 것으로 끝난다.
+ *
+ * 저장 형식 (플레이어당 파일 하나, {puuid 16진수}.col):
+ *   [magic int][version short][열 데이터 (PlayerMatchColumns.writeTo)][CRC32 long]
+ *
+ * - 쓰기: 변경된 플레이어만 주기적으로 임시 파일에 쓰고 원자적 이동
+ * - 복구: magic/version/CRC가 맞지 않는 파일은 건너뜀 (다음 조회 때 다시 채워짐)
+ */
+@Component
+@Slf4j
+public class ColumnarMatchStore {
+
+    private static final int MAGIC = 0x52434F4C; // "RCOL"
+    private static final short VERSION = 1;
+    private static final String SUFFIX = ".col";
+
+    @Value("${riot.columnar.enabled:true}")
+    private boolean enabled;
+
+    @Value("${riot.columnar.dir:./data/columnar}")
+    private String directory;
+
+    private final Map<String, PlayerMatchColumns> players = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    public ColumnarMatchStore(MeterRegistry meterRegistry) {
+        Gauge.builder("riot.columnar.players", players, Map::size)
+                .description("열 저장소에 올라간 플레이어 수")
+                .register(meterRegistry);
+        Gauge.builder("riot.columnar.memory.bytes", this, ColumnarMatchStore::memoryBytes)
+                .description("열 저장소 배열 메모리 (할당 용량 기준)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 저장된 플레이어 파일 전부 로드
+     */
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Path dir = Paths.get(directory);
+        Files.createDirectories(dir);
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(dir)) {
+            files = stream.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).toList();
+        }
+        long rows = 0;
+        for (Path file : files) {
+            try {
+                PlayerMatchColumns columns = read(file);
+                players.put(columns.getPuuid(), columns);
+                rows += columns.size();
+            } catch (IOException e) {
+                log.warn("열 저장소 파일 손상 - 건너뜀: {}, 원인={}", file, e.getMessage());
+            }
+        }
+        log.info("열 저장소 로드 완료: 플레이어 {}명, {}경기", players.size(), rows);
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    /**
+     * 경기 반영 (이미 있는 경기는 무시) - puuid가 참가하지 않은 경기도 무시
+     */
+    public void appendAll(String puuid, List<MatchSummary> matches) {
+        if (!enabled || matches.isEmpty()) {
+            return;
+        }
+        PlayerMatchColumns columns = players.computeIfAbsent(puuid, id -> new PlayerMatchColumns(id, matches.size()));
+        boolean changed = false;
+        synchronized (columns) {
+            for (MatchSummary match : matches) {
+                changed |= match.findParticipant(puuid)
+                        .map(player -> columns.add(match, player))
+                        .orElse(false);
+            }
+        }
+        if (changed) {
+            dirty.add(puuid);
+        }
+    }
+
+    /**
+     * [fromSecond, toSecond) 구간 합계 (epoch 초)
+     */
+    public WindowStats window(String puuid, long fromSecond, long toSecond) {
+        PlayerMatchColumns columns = players.get(puuid);
+        if (columns == null) {
+            return WindowStats.EMPTY;
+        }
+        synchronized (columns) {
+            return columns.window(fromSecond, toSecond);
+        }
+    }
+
+    /**
+     * 최근 n경기 합계
+     */
+    public WindowStats lastN(String puuid, int n) {
+        PlayerMatchColumns columns = players.get(puuid);
+        if (columns == null) {
+            return WindowStats.EMPTY;
+        }
+        synchronized (columns) {
+            return columns.lastN(n);
+        }
+    }
+
+    public int matchCount(String puuid) {
+        PlayerMatchColumns columns = players.get(puuid);
+        if (columns == null) {
+            return 0;
+        }
+        synchronized (columns) {
+            return columns.size();
+        }
+    }
+
+    public long memoryBytes() {
+        long total = 0;
+        for (PlayerMatchColumns columns : players.values()) {
+            total += columns.memoryBytes();
+        }
+        return total;
+    }
+
+    /**
+     * 변경된 플레이어 파일 기록
+     */
+    @Scheduled(fixedDelayString = "${riot.columnar.flush-interval-ms:10000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        for (String puuid : List.copyOf(dirty)) {
+            dirty.remove(puuid);
+            PlayerMatchColumns columns = players.get(puuid);
+            if (columns == null) {
+                continue;
+            }
+            try {
+                write(columns);
+            } catch (IOException e) {
+                dirty.add(puuid); // 다음 주기에 재시도
+                log.warn("열 저장소 기록 실패: puuid={}, 원인={}", puuid, e.getMessage());
+            }
+        }
+    }
+
+    // ===== 파일 입출력 =====
+
+    private void write(PlayerMatchColumns columns) throws IOException {
+        Path target = Paths.get(directory, fileName(columns.getPuuid()));
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        CRC32 crc = new CRC32();
+        try (OutputStream file = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            DataOutputStream body = new DataOutputStream(new CheckedOutputStream(out, crc));
+            body.writeInt(MAGIC);
+            body.writeShort(VERSION);
+            synchronized (columns) {
+                columns.writeTo(body);
+            }
+            body.flush();
+            out.writeLong(crc.getValue());
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private PlayerMatchColumns read(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream raw = new BufferedInputStream(Files.newInputStream(file))) {
+            DataInputStream body = new DataInputStream(new CheckedInputStream(raw, crc));
+            if (body.readInt() != MAGIC) {
+                throw new IOException("magic 불일치");
+            }
+            short version = body.readShort();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 버전: " + version);
+            }
+            PlayerMatchColumns columns = PlayerMatchColumns.readFrom(body);
+            long expected = crc.getValue();
+            if (new DataInputStream(raw).readLong() != expected) {
+                throw new IOException("CRC 불일치");
+            }
+            return columns;
+        }
+    }
+
+    /**
+     * 🔧 헬퍼: puuid → 파일 이름 (대소문자를 구분하지 않는 파일 시스템에서도 겹치지 않게 16진수로)
+     */
+    private static String fileName(String puuid) {
+        return HexFormat.of().formatHex(puuid.getBytes(StandardCharsets.UTF_8)) + SUFFIX;
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.demo.riot.columnar;
+
+import com.example.demo.riot.parser.MatchSummary;
+import com.example.demo.riot.parser.ParticipantStats;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 플레이어 한 명의 경기 기록 (열 단위 원시 배열)
+ *
+ * 경기 하나 = 각 배열의 같은 위치 한 칸, 경기 시작 시각(초) 오름차순 정렬.
+ * MatchDetailResponse 객체(문자열 matchId/챔피언/큐 이름, LocalDateTime) 대신
+ * 숫자만 담아서 경기당 약 40바이트 - 통계는 배열을 순서대로 더하는 단순 루프라 JIT가 벡터화하기 좋다.
+ *
+ * 자체 동기화 없음 (ColumnarMatchStore가 인스턴스 단위로 잠금)
+ */
+class PlayerMatchColumns {
+
+    static final int BYTES_PER_ROW = 8 + 1 + 4 + 2 + 2 + 1 + 2 * 4 + 4 + 4 + 2;
+
+    private final String puuid;
+    private String[] platforms = new String[0]; // matchId 접두사 (KR, NA1 ...)
+    private int size;
+
+    private long[] matchNumber;
+    private byte[] platform;
+    private int[] gameStart;        // epoch 초
+    private short[] champion;
+    private short[] queue;
+    private byte[] win;             // 0/1 - 합계만 구하면 승수
+    private short[] kills;
+    private short[] deaths;
+    private short[] assists;
+    private short[] cs;
+    private int[] gold;
+    private int[] damage;
+    private short[] duration;       // 초
+
+    PlayerMatchColumns(String puuid, int capacity) {
+        this.puuid = puuid;
+        allocate(Math.max(capacity, 16));
+    }
+
+    String getPuuid() {
+        return puuid;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long memoryBytes() {
+        return (long) matchNumber.length * BYTES_PER_ROW;
+    }
+
+    /**
+     * 경기 추가 (시작 시각 순서 유지, 이미 있는 경기면 false)
+     */
+    boolean add(MatchSummary match, ParticipantStats player) {
+        int separator = match.getMatchId().indexOf('_');
+        String prefix = separator > 0 ? match.getMatchId().substring(0, separator) : "";
+        long number;
+        try {
+            number = Long.parseLong(match.getMatchId().substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return false; // 숫자 ID가 아닌 경기는 담지 않음
+        }
+        byte platformCode = platformCode(prefix);
+        int start = (int) (match.getGameCreation() / 1000L);
+
+        int position = upperBound(start);
+        for (int i = position - 1; i >= 0 && gameStart[i] == start; i--) {
+            if (matchNumber[i] == number && platform[i] == platformCode) {
+                return false;
+            }
+        }
+
+        if (size == matchNumber.length) {
+            allocate(size * 2);
+        }
+        if (position < size) {
+            shift(position);
+        }
+        matchNumber[position] = number;
+        platform[position] = platformCode;
+        gameStart[position] = start;
+        champion[position] = (short) player.getChampionId();
+        queue[position] = (short) match.getQueueId();
+        win[position] = (byte) (player.isWin() ? 1 : 0);
+        kills[position] = (short) player.getKills();
+        deaths[position] = (short) player.getDeaths();
+        assists[position] = (short) player.getAssists();
+        cs[position] = (short) player.getCs();
+        gold[position] = player.getGoldEarned();
+        damage[position] = player.getTotalDamageDealtToChampions();
+        duration[position] = (short) Math.min(match.getGameDuration(), Short.MAX_VALUE);
+        size++;
+        return true;
+    }
+
+    /**
+     * [fromSecond, toSecond) 구간 경기 위치 범위 → 합계
+     */
+    WindowStats window(long fromSecond, long toSecond) {
+        int from = lowerBound(fromSecond);
+        int to = lowerBound(toSecond);
+        return sum(from, Math.max(from, to), -1);
+    }
+
+    /**
+     * 최근 n경기 합계
+     */
+    WindowStats lastN(int n) {
+        return sum(Math.max(0, size - n), size, -1);
+    }
+
+    /**
+     * 구간 합계 (queueId가 0 이상이면 해당 큐만)
+     */
+    WindowStats sum(int from, int to, int queueId) {
+        int games = 0;
+        long wins = 0, k = 0, d = 0, a = 0, minions = 0, goldSum = 0, damageSum = 0, seconds = 0;
+        int[] championCounts = new int[1024];
+        if (queueId < 0) {
+            // 조건 없는 열별 합계 - 배열을 순서대로 훑는 루프 (자동 벡터화 대상)
+            games = to - from;
+            for (int i = from; i < to; i++) wins += win[i];
+            for (int i = from; i < to; i++) k += kills[i];
+            for (int i = from; i < to; i++) d += deaths[i];
+            for (int i = from; i < to; i++) a += assists[i];
+            for (int i = from; i < to; i++) minions += cs[i];
+            for (int i = from; i < to; i++) goldSum += gold[i];
+            for (int i = from; i < to; i++) damageSum += damage[i];
+            for (int i = from; i < to; i++) seconds += duration[i];
+            for (int i = from; i < to; i++) championCounts[champion[i] & 1023]++;
+        } else {
+            for (int i = from; i < to; i++) {
+                if (queue[i] != queueId) {
+                    continue;
+                }
+                games++;
+                wins += win[i];
+                k += kills[i];
+                d += deaths[i];
+                a += assists[i];
+                minions += cs[i];
+                goldSum += gold[i];
+                damageSum += damage[i];
+                seconds += duration[i];
+                championCounts[champion[i] & 1023]++;
+            }
+        }
+
+        int mostPlayed = -1;
+        for (int c = 0, best = 0; c < championCounts.length; c++) {
+            if (championCounts[c] > best) {
+                best = championCounts[c];
+                mostPlayed = c;
+            }
+        }
+        return new WindowStats(games, wins, k, d, a, minions, goldSum, damageSum, seconds, mostPlayed);
+    }
+
+    /**
+     * 챔피언/큐별 집계용 원본 열 접근 (ColumnarMatchStore 내부 전용)
+     */
+    void forEachRow(RowVisitor visitor) {
+        for (int i = 0; i < size; i++) {
+            visitor.visit(champion[i], queue[i], win[i], kills[i], deaths[i], assists[i]);
+        }
+    }
+
+    interface RowVisitor {
+        void visit(int championId, int queueId, int win, int kills, int deaths, int assists);
+    }
+
+    // ===== 파일 형식: 열마다 연속으로 기록 =====
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeUTF(puuid);
+        out.writeInt(size);
+        out.writeByte(platforms.length);
+        for (String prefix : platforms) {
+            out.writeUTF(prefix);
+        }
+        for (int i = 0; i < size; i++) out.writeLong(matchNumber[i]);
+        out.write(platform, 0, size);
+        for (int i = 0; i < size; i++) out.writeInt(gameStart[i]);
+        for (int i = 0; i < size; i++) out.writeShort(champion[i]);
+        for (int i = 0; i < size; i++) out.writeShort(queue[i]);
+        out.write(win, 0, size);
+        for (int i = 0; i < size; i++) out.writeShort(kills[i]);
+        for (int i = 0; i < size; i++) out.writeShort(deaths[i]);
+        for (int i = 0; i < size; i++) out.writeShort(assists[i]);
+        for (int i = 0; i < size; i++) out.writeShort(cs[i]);
+        for (int i = 0; i < size; i++) out.writeInt(gold[i]);
+        for (int i = 0; i < size; i++) out.writeInt(damage[i]);
+        for (int i = 0; i < size; i++) out.writeShort(duration[i]);
+    }
+
+    static PlayerMatchColumns readFrom(DataInputStream in) throws IOException {
+        String puuid = in.readUTF();
+        int rows = in.readInt();
+        if (rows < 0) {
+            throw new IOException("잘못된 경기 수: " + rows);
+        }
+        PlayerMatchColumns columns = new PlayerMatchColumns(puuid, rows);
+        columns.platforms = new String[in.readUnsignedByte()];
+        for (int i = 0; i < columns.platforms.length; i++) {
+            columns.platforms[i] = in.readUTF();
+        }
+        for (int i = 0; i < rows; i++) columns.matchNumber[i] = in.readLong();
+        in.readFully(columns.platform, 0, rows);
+        for (int i = 0; i < rows; i++) columns.gameStart[i] = in.readInt();
+        for (int i = 0; i < rows; i++) columns.champion[i] = in.readShort();
+        for (int i = 0; i < rows; i++) columns.queue[i] = in.readShort();
+        in.readFully(columns.win, 0, rows);
+        for (int i = 0; i < rows; i++) columns.kills[i] = in.readShort();
+        for (int i = 0; i < rows; i++) columns.deaths[i] = in.readShort();
+        for (int i = 0; i < rows; i++) columns.assists[i] = in.readShort();
+        for (int i = 0; i < rows; i++) columns.cs[i] = in.readShort();
+        for (int i = 0; i < rows; i++) columns.gold[i] = in.readInt();
+        for (int i = 0; i < rows; i++) columns.damage[i] = in.readInt();
+        for (int i = 0; i < rows; i++) columns.duration[i] = in.readShort();
+        columns.size = rows;
+        return columns;
+    }
+
+    // ===== 내부 =====
+
+    private byte platformCode(String prefix) {
+        for (int i = 0; i < platforms.length; i++) {
+            if (platforms[i].equals(prefix)) {
+                return (byte) i;
+            }
+        }
+        platforms = Arrays.copyOf(platforms, platforms.length + 1);
+        platforms[platforms.length - 1] = prefix;
+        return (byte) (platforms.length - 1);
+    }
+
+    /**
+     * gameStart >= second 인 첫 위치
+     */
+    private int lowerBound(long second) {
+        int low = 0, high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (gameStart[mid] < second) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * gameStart > second 인 첫 위치
+     */
+    private int upperBound(long second) {
+        int low = 0, high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (gameStart[mid] <= second) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void shift(int position) {
+        int length = size - position;
+        System.arraycopy(matchNumber, position, matchNumber, position + 1, length);
+        System.arraycopy(platform, position, platform, position + 1, length);
+        System.arraycopy(gameStart, position, gameStart, position + 1, length);
+        System.arraycopy(champion, position, champion, position + 1, length);
+        System.arraycopy(queue, position, queue, position + 1, length);
+        System.arraycopy(win, position, win, position + 1, length);
+        System.arraycopy(kills, position, kills, position + 1, length);
+        System.arraycopy(deaths, position, deaths, position + 1, length);
+        System.arraycopy(assists, position, assists, position + 1, length);
+        System.arraycopy(cs, position, cs, position + 1, length);
+        System.arraycopy(gold, position, gold, position + 1, length);
+        System.arraycopy(damage, position, damage, position + 1, length);
+        System.arraycopy(duration, position, duration, position + 1, length);
+    }
+
+    private void allocate(int capacity) {
+        matchNumber = matchNumber == null ? new long[capacity] : Arrays.copyOf(matchNumber, capacity);
+        platform = platform == null ? new byte[capacity] : Arrays.copyOf(platform, capacity);
+        gameStart = gameStart == null ? new int[capacity] : Arrays.copyOf(gameStart, capacity);
+        champion = champion == null ? new short[capacity] : Arrays.copyOf(champion, capacity);
+        queue = queue == null ? new short[capacity] : Arrays.copyOf(queue, capacity);
+        win = win == null ? new byte[capacity] : Arrays.copyOf(win, capacity);
+        kills = kills == null ? new short[capacity] : Arrays.copyOf(kills, capacity);
+        deaths = deaths == null ? new short[capacity] : Arrays.copyOf(deaths, capacity);
+        assists = assists == null ? new short[capacity] : Arrays.copyOf(assists, capacity);
+        cs = cs == null ? new short[capacity] : Arrays.copyOf(cs, capacity);
+        gold = gold == null ? new int[capacity] : Arrays.copyOf(gold, capacity);
+        damage = damage == null ? new int[capacity] : Arrays.copyOf(damage, capacity);
+        duration = duration == null ? new short[capacity] : Arrays.copyOf(duration, capacity);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.riot.columnar;
+
+/**
+ * 열 저장소 구간 합계 (mostPlayedChampionId: 없으면 -1)
+ */
+public record WindowStats(int games, long wins, long kills, long deaths, long assists,
+                          long cs, long gold, long damage, long durationSeconds, int mostPlayedChampionId) {
+
+    public static final WindowStats EMPTY = new WindowStats(0, 0, 0, 0, 0, 0, 0, 0, 0, -1);
+}
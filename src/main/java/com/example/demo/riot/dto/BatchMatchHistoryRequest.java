@@ -0,0 +1,30 @@
+package com.example.demo.riot.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 👥 여러 플레이어 전적 한 번에 조회 요청 DTO (팀/클랜 페이지)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchMatchHistoryRequest {
+
+    @NotEmpty(message = "플레이어 목록은 필수입니다")
+    @Size(max = 10, message = "한 번에 최대 10명까지 조회할 수 있습니다")
+    private List<@Valid RiotIdRequest> players;
+
+    @Min(value = 1, message = "경기 수는 1 이상이어야 합니다")
+    @Max(value = 10, message = "경기 수는 10 이하여야 합니다")
+    @Builder.Default
+    private int count = 5;
+}
@@ -0,0 +1,33 @@
+package com.example.demo.riot.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 👥 여러 플레이어 전적 응답 DTO
+ *
+ * 같은 경기에 함께 참가한 플레이어가 많을수록 경기 상세 호출이 줄어든다.
+ * - requestedMatches: 플레이어별 경기 ID 수의 합 (따로 조회했다면 필요한 상세 호출 수)
+ * - distinctMatches: 실제로 조회한 서로 다른 경기 수
+ * - upstreamCallsSaved: 중복 제거로 아낀 호출 수 (= requestedMatches - distinctMatches)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchMatchHistoryResponse {
+
+    // 플레이어별 전적 (요청 순서 그대로, 조회 실패 플레이어는 제외)
+    private List<PlayerMatchHistoryResponse> histories;
+
+    // 계정/경기 목록 조회에 실패한 플레이어 (gameName#tagLine)
+    private List<String> failedPlayers;
+
+    private int requestedMatches;
+
+    private int distinctMatches;
+
+    private int upstreamCallsSaved;
+}
@@ -0,0 +1,27 @@
+package com.example.demo.riot.dto;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * 🏆 서버 전체 챔피언 통계 응답 DTO
+ * 
+ * 지금까지 조회된 모든 경기(참가자 전원) 기준, 픽 수 내림차순
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChampionAnalyticsResponse {
+    
+    // 조회 조건 (null이면 모든 큐)
+    private Integer queueId;
+    
+    // 집계 대상 규모
+    private int totalMatches;
+    private int totalParticipants;
+    
+    // 챔피언별 통계
+    private List<ChampionStatsResponse> champions;
+}
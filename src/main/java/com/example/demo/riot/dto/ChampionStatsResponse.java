@@ -0,0 +1,34 @@
+package com.example.demo.riot.dto;
+
+import lombok.*;
+
+/**
+ * 🏆 챔피언 한 명의 서버 전체 통계 DTO
+ * 
+ * queueId/queueName이 null이면 모든 큐 합산
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChampionStatsResponse {
+    
+    // 챔피언 / 큐
+    private int championId;
+    private String championName;
+    private Integer queueId;
+    private String queueName;
+    
+    // 픽 / 승률
+    private int picks;
+    private int wins;
+    private double winRate;         // 승률 (%)
+    private double pickRate;        // 픽률 (해당 큐 경기 중 등장 비율, %)
+    
+    // KDA
+    private double averageKDA;
+    private double averageKills;
+    private double averageDeaths;
+    private double averageAssists;
+}
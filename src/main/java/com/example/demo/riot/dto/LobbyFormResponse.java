@@ -0,0 +1,33 @@
+package com.example.demo.riot.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 🔍 로비 스카우팅 응답 DTO (경기 하나의 참가자 전원 최근 폼)
+ *
+ * - players: 참가자 순서 그대로 (블루 → 레드), 경기 목록 조회에 실패한 참가자는 제외
+ * - requestedMatches / distinctMatches: 참가자별 최근 경기 수의 합 / 실제로 조회한 서로 다른 경기 수
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LobbyFormResponse {
+
+    private String matchId;
+    private String queueType;
+    private LocalDateTime gameDate;
+
+    private List<LobbyPlayerFormResponse> players;
+
+    // 경기 목록 조회에 실패한 참가자 puuid
+    private List<String> failedPlayers;
+
+    private int requestedMatches;
+
+    private int distinctMatches;
+}
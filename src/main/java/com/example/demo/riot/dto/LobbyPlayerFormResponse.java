@@ -0,0 +1,30 @@
+package com.example.demo.riot.dto;
+
+import lombok.*;
+
+/**
+ * 🔍 로비 참가자 한 명의 최근 폼 요약 DTO
+ *
+ * 전적 목록 대신 요약만 담아서 10명분이어도 응답이 작다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LobbyPlayerFormResponse {
+
+    private String puuid;
+    private String gameName;        // 경기 데이터의 Riot ID (없으면 null)
+    private String tagLine;
+    private int teamId;             // 100 = 블루, 200 = 레드
+    private String championName;    // 이 경기에서 플레이한 챔피언
+
+    // 최근 경기 승패, 최신 경기부터 (예: "WWLWL")
+    private String recentResults;
+
+    // 최근 경기 통계 (승률, 평균 KDA, 주력 챔피언)
+    private MatchStatsResponse stats;
+
+    private int failedMatches;
+}
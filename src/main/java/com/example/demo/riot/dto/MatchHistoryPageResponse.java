@@ -0,0 +1,39 @@
+package com.example.demo.riot.dto;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * 🎮 전적 페이지 응답 DTO (커서 기반 페이징)
+ * 
+ * nextCursor를 그대로 다음 요청의 cursor로 넘기면 이어지는 경기를 받을 수 있다.
+ * 더 이상 경기가 없으면 nextCursor = null
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchHistoryPageResponse {
+    
+    // 플레이어 기본 정보
+    private AccountResponse player;
+    
+    // 이번 페이지 경기 (최신 경기 먼저)
+    private List<MatchDetailResponse> matches;
+    
+    // 상세 조회에 실패해서 제외된 경기 ID
+    private List<String> failedMatchIds;
+    
+    // 페이징 정보
+    private String cursor;
+    private String nextCursor;
+    private int size;
+    
+    /**
+     * 🔧 편의 메서드: 다음 페이지 존재 여부
+     */
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.riot.dto;
+
+import lombok.*;
+import java.time.LocalDate;
+
+/**
+ * 📊 기간 통계 DTO (열 저장소 기반)
+ * 
+ * 기본 통계(승률/KDA/주력 챔피언)는 MatchStatsResponse와 같은 공식,
+ * 여기에 분당 지표(CS/골드/챔피언 피해량)를 더한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchWindowStatsResponse {
+    
+    // 조회 기간 (to 포함)
+    private LocalDate from;
+    private LocalDate to;
+    
+    // 기본 통계
+    private MatchStatsResponse stats;
+    
+    // 분당 지표
+    private double csPerMinute;
+    private double goldPerMinute;
+    private double damagePerMinute;
+    
+    // 총 플레이 시간 (분)
+    private long totalMinutes;
+}
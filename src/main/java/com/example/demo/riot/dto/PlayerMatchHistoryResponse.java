@@ -29,6 +29,9 @@ public class PlayerMatchHistoryResponse {
     // 🔥 핵심: 통계 요약 (승률, 평균 KDA, 주력 챔피언 등)
     private MatchStatsResponse stats;
     
+    // 상세 조회에 실패해서 제외된 경기 ID (부분 실패)
+    private List<String> failedMatchIds;
+    
     /**
      * 🔧 편의 메서드: 플레이어 표시명
      */
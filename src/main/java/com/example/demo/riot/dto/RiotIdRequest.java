@@ -0,0 +1,23 @@
+package com.example.demo.riot.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+/**
+ * Riot ID (gameName#tagLine) 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RiotIdRequest {
+
+    @NotBlank(message = "gameName은 필수입니다")
+    private String gameName;
+
+    @NotBlank(message = "tagLine은 필수입니다")
+    private String tagLine;
+
+    private String region; // 지역(americas/asia/europe/sea) 또는 플랫폼(kr, euw1 ...), 없으면 기본 지역
+}
@@ -0,0 +1,38 @@
+package com.example.demo.riot.dto;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * ⏱️ 분당 성장 곡선 통계 DTO (match-v5 타임라인 기반)
+ * 
+ * "10분 CS 평균 82" 같은 지표 + 분당 평균 곡선(골드/경험치/CS)
+ * 곡선의 n번째 값 = 경기 시작 n분 시점 평균 (그 시점까지 진행된 경기만)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimelineStatsResponse {
+    
+    // 플레이어 기본 정보
+    private AccountResponse player;
+    
+    // 기준 시점 (분) + 그 시점까지 진행된 경기 수
+    private int minute;
+    private int games;
+    
+    // 기준 시점 평균
+    private double csAtMinute;
+    private double goldAtMinute;
+    private double xpAtMinute;
+    
+    // 분당 평균 곡선
+    private List<Double> csCurve;
+    private List<Double> goldCurve;
+    private List<Double> xpCurve;
+    
+    // 타임라인 조회에 실패해서 제외된 경기 ID
+    private List<String> failedMatchIds;
+}
@@ -0,0 +1,148 @@
+package com.example.demo.riot.gamedata;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 📚 정적 게임 데이터 레지스트리 (챔피언, 큐, 아이템, 소환사 주문)
+ *
+ * - 시작 시 번들된 Data Dragon 스냅샷(classpath:gamedata/{locale}.json)을 한 번만 로드
+ * - riot.gamedata.dir 에 새 패치 스냅샷 파일을 넣으면 주기적으로 감지해서 통째로 교체 (atomic swap)
+ * - 조회는 불변 스냅샷의 배열 접근이라 경기마다 Map을 만들던 기존 방식과 달리 할당이 없음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameDataRegistry {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${riot.gamedata.locale:ko_KR}")
+    private String defaultLocale;
+
+    @Value("${riot.gamedata.dir:./data/gamedata}")
+    private String snapshotDir;
+
+    private volatile Map<String, GameDataSnapshot> snapshots = Map.of();
+    private volatile GameDataSnapshot defaults;
+    private final Map<Path, Long> loadedFiles = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void load() throws IOException {
+        Map<String, GameDataSnapshot> loaded = new HashMap<>();
+        Resource[] bundled = new PathMatchingResourcePatternResolver().getResources("classpath:gamedata/*.json");
+        for (Resource resource : bundled) {
+            try (InputStream in = resource.getInputStream()) {
+                GameDataSnapshot snapshot = GameDataSnapshot.from(objectMapper.readTree(in));
+                loaded.put(snapshot.getLocale(), snapshot);
+            }
+        }
+        swap(loaded);
+        reloadChanged();
+        log.info("게임 데이터 로드 완료: {} (패치 {})", snapshots.keySet(), defaults.getVersion());
+    }
+
+    /**
+     * 스냅샷 디렉터리에서 새로 들어오거나 바뀐 파일만 다시 읽어서 교체
+     */
+    @Scheduled(fixedDelayString = "${riot.gamedata.reload-interval-ms:60000}")
+    public void reloadChanged() {
+        Path dir = Paths.get(snapshotDir);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(dir)) {
+            files = stream.filter(p -> p.getFileName().toString().endsWith(".json")).toList();
+        } catch (IOException e) {
+            log.warn("게임 데이터 디렉터리 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        Map<String, GameDataSnapshot> updated = null;
+        for (Path file : files) {
+            try {
+                long modified = Files.getLastModifiedTime(file).toMillis();
+                if (Long.valueOf(modified).equals(loadedFiles.get(file))) {
+                    continue;
+                }
+                GameDataSnapshot snapshot = GameDataSnapshot.from(objectMapper.readTree(file.toFile()));
+                if (updated == null) {
+                    updated = new HashMap<>(snapshots);
+                }
+                updated.put(snapshot.getLocale(), snapshot);
+                loadedFiles.put(file, modified);
+                log.info("게임 데이터 교체: {} → 패치 {}", snapshot.getLocale(), snapshot.getVersion());
+            } catch (IOException e) {
+                // 쓰는 도중이거나 깨진 파일 - 기존 스냅샷 유지, 다음 주기에 재시도
+                log.warn("게임 데이터 스냅샷 로드 실패: {} ({})", file, e.getMessage());
+            }
+        }
+        if (updated != null) {
+            swap(updated);
+        }
+    }
+
+    public String championName(int championId) {
+        return defaults.championName(championId);
+    }
+
+    public String championName(int championId, String locale) {
+        return snapshot(locale).championName(championId);
+    }
+
+    public String queueName(int queueId) {
+        return defaults.queueName(queueId);
+    }
+
+    public String queueName(int queueId, String locale) {
+        return snapshot(locale).queueName(queueId);
+    }
+
+    public String itemName(int itemId, String locale) {
+        return snapshot(locale).itemName(itemId);
+    }
+
+    public String summonerSpellName(int spellId, String locale) {
+        return snapshot(locale).summonerSpellName(spellId);
+    }
+
+    public String getVersion() {
+        return defaults.getVersion();
+    }
+
+    /**
+     * 해당 언어 스냅샷 (없으면 기본 언어)
+     */
+    public GameDataSnapshot snapshot(String locale) {
+        GameDataSnapshot snapshot = locale == null ? null : snapshots.get(locale);
+        return snapshot != null ? snapshot : defaults;
+    }
+
+    private void swap(Map<String, GameDataSnapshot> loaded) {
+        GameDataSnapshot fallback = loaded.get(defaultLocale);
+        if (fallback == null) {
+            throw new IllegalStateException("기본 언어 게임 데이터가 없습니다: " + defaultLocale);
+        }
+        snapshots = Map.copyOf(loaded);
+        defaults = fallback;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.demo.riot.gamedata;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 패치 버전 + 언어 하나에 해당하는 정적 게임 데이터 (불변)
+ *
+ * ID → 이름을 ID 인덱스 배열로 보관해서 조회 시 해시/박싱/할당이 없다.
+ * 아이템처럼 ID가 큰 항목(220000번대 아레나 아이템 등)은 정렬된 ID 배열 + 이분 탐색으로 보관한다.
+ */
+public class GameDataSnapshot {
+
+    private static final int DENSE_LIMIT = 1 << 16; // 이 미만 ID만 인덱스 배열에 (배열이 과하게 커지지 않도록)
+
+    @Getter
+    private final String version;
+    @Getter
+    private final String locale;
+    @Getter
+    private final String unknownChampion;
+    @Getter
+    private final String unknownQueue;
+    private final IdNames champions;
+    private final IdNames queues;
+    private final IdNames items;
+    private final IdNames summonerSpells;
+
+    private GameDataSnapshot(JsonNode root) throws IOException {
+        this.version = required(root, "version").asText();
+        this.locale = required(root, "locale").asText();
+        this.unknownChampion = root.path("unknownChampion").asText("Champion ");
+        this.unknownQueue = root.path("unknownQueue").asText("");
+        this.champions = IdNames.from(root.path("champions"));
+        this.queues = IdNames.from(root.path("queues"));
+        this.items = IdNames.from(root.path("items"));
+        this.summonerSpells = IdNames.from(root.path("summonerSpells"));
+    }
+
+    /**
+     * 스냅샷 JSON 파싱 - 형식이 맞지 않으면 IOException (기존 스냅샷 유지용)
+     */
+    static GameDataSnapshot from(JsonNode root) throws IOException {
+        return new GameDataSnapshot(root);
+    }
+
+    public String championName(int championId) {
+        String name = champions.lookup(championId);
+        return name != null ? name : unknownChampion + championId;
+    }
+
+    public String queueName(int queueId) {
+        String name = queues.lookup(queueId);
+        return name != null ? name : unknownQueue;
+    }
+
+    public String itemName(int itemId) {
+        return items.lookup(itemId);
+    }
+
+    public String summonerSpellName(int spellId) {
+        return summonerSpells.lookup(spellId);
+    }
+
+    private static JsonNode required(JsonNode root, String field) throws IOException {
+        JsonNode node = root.get(field);
+        if (node == null || node.asText().isBlank()) {
+            throw new IOException("게임 데이터 스냅샷에 " + field + " 항목이 없습니다");
+        }
+        return node;
+    }
+
+    private static int parseId(String key) throws IOException {
+        try {
+            int id = Integer.parseInt(key);
+            if (id < 0) {
+                throw new IOException("게임 데이터 ID가 음수입니다: " + key);
+            }
+            return id;
+        } catch (NumberFormatException e) {
+            throw new IOException("게임 데이터 ID가 숫자가 아닙니다: " + key);
+        }
+    }
+
+    /**
+     * ID → 이름 표 하나 - DENSE_LIMIT 미만은 인덱스 배열, 그 이상은 정렬된 ID 배열 + 이름 배열
+     */
+    private static final class IdNames {
+
+        private final String[] dense;
+        private final int[] sparseIds;
+        private final String[] sparseNames;
+
+        private IdNames(String[] dense, int[] sparseIds, String[] sparseNames) {
+            this.dense = dense;
+            this.sparseIds = sparseIds;
+            this.sparseNames = sparseNames;
+        }
+
+        static IdNames from(JsonNode section) throws IOException {
+            TreeMap<Integer, String> sparse = new TreeMap<>();
+            int maxDenseId = -1;
+            for (Map.Entry<String, JsonNode> field : section.properties()) {
+                int id = parseId(field.getKey());
+                if (id < DENSE_LIMIT) {
+                    maxDenseId = Math.max(maxDenseId, id);
+                }
+            }
+            String[] dense = new String[maxDenseId + 1];
+            for (Map.Entry<String, JsonNode> field : section.properties()) {
+                int id = parseId(field.getKey());
+                if (id < DENSE_LIMIT) {
+                    dense[id] = field.getValue().asText();
+                } else {
+                    sparse.put(id, field.getValue().asText());
+                }
+            }
+
+            int[] sparseIds = new int[sparse.size()];
+            String[] sparseNames = new String[sparse.size()];
+            int i = 0;
+            for (Map.Entry<Integer, String> entry : sparse.entrySet()) {
+                sparseIds[i] = entry.getKey();
+                sparseNames[i++] = entry.getValue();
+            }
+            return new IdNames(dense, sparseIds, sparseNames);
+        }
+
+        String lookup(int id) {
+            if (id < 0) {
+                return null;
+            }
+            if (id < dense.length) {
+                return dense[id];
+            }
+            int index = Arrays.binarySearch(sparseIds, id);
+            return index >= 0 ? sparseNames[index] : null;
+        }
+    }
+}
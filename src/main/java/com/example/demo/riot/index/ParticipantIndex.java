@@ -0,0 +1,124 @@
+package com.example.demo.riot.index;
+
+import com.example.demo.riot.parser.MatchSummary;
+import com.example.demo.riot.parser.ParticipantStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🧭 참가자 역인덱스 (puuid → 경기)
+ *
+ * 경기 하나를 받으면 10명 전원의 성과를 보관해 두고,
+ * 같은 로비의 다른 플레이어가 조회할 때 Riot 호출/파싱 없이 바로 응답한다.
+ *
+ * - 경기 수 기준 LRU로 크기 제한, 방출 시 역인덱스도 함께 정리
+ * - 조회 적중률을 riot.index.lookups / riot.index.hit.ratio 지표로 노출
+ */
+@Component
+public class ParticipantIndex {
+
+    private final int maxMatches;
+    private final LinkedHashMap<String, MatchSummary> matches;
+    private final Map<String, Set<String>> matchIdsByPuuid = new HashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ParticipantIndex(MeterRegistry meterRegistry,
+                            @Value("${riot.index.max-matches:20000}") int maxMatches) {
+        this.maxMatches = maxMatches;
+        this.matches = new LinkedHashMap<>(1024, 0.75f, true);
+
+        FunctionCounter.builder("riot.index.lookups", hits, AtomicLong::get)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("riot.index.lookups", misses, AtomicLong::get)
+                .tag("result", "miss").register(meterRegistry);
+        Gauge.builder("riot.index.hit.ratio", this, ParticipantIndex::hitRatio).register(meterRegistry);
+        Gauge.builder("riot.index.matches", this, ParticipantIndex::size).register(meterRegistry);
+    }
+
+    /**
+     * 경기 전체(참가자 전원)를 인덱스에 등록
+     */
+    public synchronized void index(MatchSummary match) {
+        if (matches.put(match.getMatchId(), match) != null) {
+            return;
+        }
+        for (ParticipantStats participant : match.getParticipants()) {
+            if (participant.getPuuid() != null) {
+                matchIdsByPuuid.computeIfAbsent(participant.getPuuid(), k -> new HashSet<>())
+                        .add(match.getMatchId());
+            }
+        }
+        while (matches.size() > maxMatches) {
+            String eldest = matches.keySet().iterator().next();
+            evict(matches.remove(eldest));
+        }
+    }
+
+    /**
+     * 이 플레이어가 참가한 보관 경기 조회 (적중률 집계 대상)
+     */
+    public synchronized Optional<MatchSummary> find(String matchId, String puuid) {
+        MatchSummary match = matches.get(matchId);
+        if (match == null || match.findParticipant(puuid).isEmpty()) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return Optional.of(match);
+    }
+
+    public synchronized Optional<MatchSummary> getMatch(String matchId) {
+        return Optional.ofNullable(matches.get(matchId));
+    }
+
+    /**
+     * 이 플레이어가 등장한 보관 경기 ID (최신 경기 먼저)
+     */
+    public synchronized List<String> matchIdsFor(String puuid) {
+        Set<String> ids = matchIdsByPuuid.get(puuid);
+        if (ids == null) {
+            return List.of();
+        }
+        List<String> sorted = new ArrayList<>(ids);
+        sorted.sort(Comparator.comparingLong((String id) -> matches.get(id).getGameCreation()).reversed());
+        return sorted;
+    }
+
+    public synchronized int size() {
+        return matches.size();
+    }
+
+    public double hitRatio() {
+        long hit = hits.get();
+        long total = hit + misses.get();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    private void evict(MatchSummary match) {
+        for (ParticipantStats participant : match.getParticipants()) {
+            Set<String> ids = matchIdsByPuuid.get(participant.getPuuid());
+            if (ids != null) {
+                ids.remove(match.getMatchId());
+                if (ids.isEmpty()) {
+                    matchIdsByPuuid.remove(participant.getPuuid());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.demo.riot.metrics;
+
+import com.example.demo.riot.RiotRegionRouting;
+import com.example.demo.riot.RiotRoute;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 📊 riotRestTemplate 요청 팩토리 안쪽 인터셉터 (서킷 기록 다음): Riot 호출 지표
+ *
+ * - riot.client.requests: 응답 시간 Timer (percentile histogram + p50/p95/p99)
+ *   태그 route/uri(경로 템플릿)/status/region - 실제 URL(puuid, api_key)은 태그에 넣지 않음
+ * - riot.ratelimit.header.limit / .count: Riot이 내려준 X-*-Rate-Limit(-Count) 헤더 값 (윈도우별 Gauge)
+ *
+ * 시도마다 새로 만드는 요청 안에서 돌기 때문에 429 재시도도 시도마다 따로 기록된다 (RiotRestTemplateConfig 참고).
+ * 429/재시도 횟수는 RiotRateLimiter 지표(riot.ratelimit.throttled/retries)로 본다.
+ */
+@Component
+public class RiotClientMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final RiotRegionRouting regionRouting;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> headerValues = new ConcurrentHashMap<>();
+
+    public RiotClientMetricsInterceptor(MeterRegistry meterRegistry, RiotRegionRouting regionRouting) {
+        this.meterRegistry = meterRegistry;
+        this.regionRouting = regionRouting;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        RiotRoute route = RiotRoute.fromPath(request.getURI().getPath());
+        String region = regionRouting.regionOf(request.getURI()).getTag();
+        long startNanos = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            timer(route, String.valueOf(response.getStatusCode().value()), region)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            recordRateLimitHeaders(response.getHeaders(), route, region);
+            return response;
+        } catch (IOException e) {
+            timer(route, "IO_ERROR", region).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(RiotRoute route, String status, String region) {
+        return timers.computeIfAbsent(route.name() + '|' + status + '|' + region,
+                key -> Timer.builder("riot.client.requests")
+                        .tag("route", route.getTag())
+                        .tag("uri", route.getUriTemplate())
+                        .tag("status", status)
+                        .tag("region", region)
+                        .description("Riot API 호출 응답 시간")
+                        .publishPercentileHistogram()
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry));
+    }
+
+    private void recordRateLimitHeaders(HttpHeaders headers, RiotRoute route, String region) {
+        recordHeader("riot.ratelimit.header.limit", headers.getFirst("X-App-Rate-Limit"), "app", region);
+        recordHeader("riot.ratelimit.header.count", headers.getFirst("X-App-Rate-Limit-Count"), "app", region);
+        recordHeader("riot.ratelimit.header.limit", headers.getFirst("X-Method-Rate-Limit"), route.getTag(), region);
+        recordHeader("riot.ratelimit.header.count", headers.getFirst("X-Method-Rate-Limit-Count"), route.getTag(), region);
+    }
+
+    /**
+     * "20:1,100:120" (값:윈도우초) → 윈도우마다 Gauge 하나
+     */
+    private void recordHeader(String name, String header, String scope, String region) {
+        if (header == null || header.isBlank()) {
+            return;
+        }
+        for (String part : header.split(",")) {
+            int colon = part.indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            try {
+                long value = Long.parseLong(part.substring(0, colon).trim());
+                String window = part.substring(colon + 1).trim() + "s";
+                headerValues.computeIfAbsent(name + '|' + scope + '|' + window + '|' + region, key -> {
+                    AtomicLong holder = new AtomicLong();
+                    Gauge.builder(name, holder, AtomicLong::get)
+                            .tag("scope", scope)
+                            .tag("window", window)
+                            .tag("region", region)
+                            .description("Riot 응답 호출 한도 헤더 값")
+                            .register(meterRegistry);
+                    return holder;
+                }).set(value);
+            } catch (NumberFormatException ignored) {
+                // 형식이 다른 헤더는 무시
+            }
+        }
+    }
+}
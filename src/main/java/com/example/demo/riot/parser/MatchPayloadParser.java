@@ -0,0 +1,105 @@
+package com.example.demo.riot.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * ⚡ match-v5 경기 JSON 스트리밍 파서
+ *
+ * 기존: 전체 JSON → 중첩 Map 트리 (모든 숫자 박싱) → participants 선형 탐색
+ * 개선: Jackson 토큰 스트림으로 필요한 필드만 원시 타입으로 읽고 나머지는 건너뜀
+ *
+ * 읽는 필드: info.gameDuration, info.gameCreation, info.queueId, info.participants[] 성과 필드
+ */
+@Component
+public class MatchPayloadParser {
+
+    private final JsonFactory jsonFactory;
+
+    public MatchPayloadParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * @param targetPuuid 이 플레이어만 남김 (null이면 참가자 전원)
+     */
+    public MatchSummary parse(byte[] payload, String matchId, String targetPuuid) throws IOException {
+        MatchSummary summary = new MatchSummary();
+        summary.setMatchId(matchId);
+
+        try (JsonParser parser = jsonFactory.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("경기 JSON 형식이 아닙니다: " + matchId);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("info".equals(field)) {
+                    parseInfo(parser, summary, targetPuuid);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return summary;
+    }
+
+    private void parseInfo(JsonParser parser, MatchSummary summary, String targetPuuid) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "gameDuration" -> summary.setGameDuration(parser.getLongValue());
+                case "gameCreation" -> summary.setGameCreation(parser.getLongValue());
+                case "queueId" -> summary.setQueueId(parser.getIntValue());
+                case "participants" -> parseParticipants(parser, summary, targetPuuid);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void parseParticipants(JsonParser parser, MatchSummary summary, String targetPuuid) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        // 타겟만 찾을 때는 임시 객체 하나를 재사용하고, 일치한 경우에만 새로 만든다
+        ParticipantStats scratch = new ParticipantStats();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            scratch.reset();
+            parseParticipant(parser, scratch);
+            if (targetPuuid == null || targetPuuid.equals(scratch.getPuuid())) {
+                summary.getParticipants().add(scratch);
+                scratch = new ParticipantStats();
+            }
+        }
+    }
+
+    private void parseParticipant(JsonParser parser, ParticipantStats stats) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "puuid" -> stats.setPuuid(parser.getText());
+                case "riotIdGameName" -> stats.setRiotIdGameName(parser.getText());
+                case "riotIdTagline" -> stats.setRiotIdTagline(parser.getText());
+                case "championId" -> stats.setChampionId(parser.getIntValue());
+                case "teamId" -> stats.setTeamId(parser.getIntValue());
+                case "win" -> stats.setWin(parser.getBooleanValue());
+                case "kills" -> stats.setKills(parser.getIntValue());
+                case "deaths" -> stats.setDeaths(parser.getIntValue());
+                case "assists" -> stats.setAssists(parser.getIntValue());
+                case "totalMinionsKilled" -> stats.setTotalMinionsKilled(parser.getIntValue());
+                case "neutralMinionsKilled" -> stats.setNeutralMinionsKilled(parser.getIntValue());
+                case "totalDamageDealtToChampions" -> stats.setTotalDamageDealtToChampions(parser.getIntValue());
+                case "goldEarned" -> stats.setGoldEarned(parser.getIntValue());
+                default -> parser.skipChildren();
+            }
+        }
+    }
+}
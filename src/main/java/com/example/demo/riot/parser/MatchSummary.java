@@ -0,0 +1,30 @@
+package com.example.demo.riot.parser;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * match-v5 경기 요약 - 스트리밍 파서 결과
+ */
+@Getter
+@Setter
+public class MatchSummary {
+    private String matchId;
+    private long gameDuration;      // 초
+    private long gameCreation;      // epoch millis
+    private int queueId;
+    private final List<ParticipantStats> participants = new ArrayList<>(10);
+
+    public Optional<ParticipantStats> findParticipant(String puuid) {
+        for (ParticipantStats participant : participants) {
+            if (puuid.equals(participant.getPuuid())) {
+                return Optional.of(participant);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.demo.riot.parser;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * match-v5 타임라인 요약 - 참가자별 분당 누적 곡선 (스트리밍 파서 결과)
+ *
+ * 프레임 f = 경기 시작 후 f * frameInterval 시점, 마지막 프레임은 경기 종료 시점.
+ * 곡선은 [참가자][프레임] 원시 배열 - 이벤트/좌표 등 나머지 타임라인 데이터는 담지 않는다.
+ */
+public class MatchTimeline {
+
+    private final String matchId;
+    private int frameIntervalMillis = 60_000;
+    private String[] puuids = new String[10];   // participantId - 1
+    private int frameCount;
+
+    private int[][] totalGold = new int[10][];
+    private int[][] xp = new int[10][];
+    private int[][] cs = new int[10][];         // 미니언 + 정글 몬스터
+    private int frameCapacity = 40;
+
+    public MatchTimeline(String matchId) {
+        this.matchId = matchId;
+        for (int p = 0; p < puuids.length; p++) {
+            allocateParticipant(p);
+        }
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public int getFrameIntervalMillis() {
+        return frameIntervalMillis;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public int getParticipantCount() {
+        return puuids.length;
+    }
+
+    /**
+     * puuid → 참가자 위치 (없으면 -1)
+     */
+    public int participantIndex(String puuid) {
+        for (int p = 0; p < puuids.length; p++) {
+            if (puuid.equals(puuids[p])) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 경기 시작 후 minute분 프레임 (경기가 그 전에 끝났으면 -1)
+     *
+     * 마지막 프레임은 종료 시점이라 분 단위가 아니므로 제외
+     */
+    public int frameAtMinute(int minute) {
+        long frame = (long) minute * 60_000L / frameIntervalMillis;
+        return minute >= 0 && frame < frameCount - 1 ? (int) frame : -1;
+    }
+
+    public int totalGoldAt(int participant, int frame) {
+        return totalGold[participant][frame];
+    }
+
+    public int xpAt(int participant, int frame) {
+        return xp[participant][frame];
+    }
+
+    public int csAt(int participant, int frame) {
+        return cs[participant][frame];
+    }
+
+    // ===== 파서 전용 =====
+
+    void setFrameIntervalMillis(int frameIntervalMillis) {
+        if (frameIntervalMillis > 0) {
+            this.frameIntervalMillis = frameIntervalMillis;
+        }
+    }
+
+    void setPuuid(int participant, String puuid) {
+        ensureParticipant(participant);
+        puuids[participant] = puuid;
+    }
+
+    void setFrame(int participant, int frame, int goldValue, int xpValue, int csValue) {
+        ensureParticipant(participant);
+        if (frame >= frameCapacity) {
+            frameCapacity = Math.max(frame + 1, frameCapacity * 2);
+            for (int p = 0; p < puuids.length; p++) {
+                totalGold[p] = Arrays.copyOf(totalGold[p], frameCapacity);
+                xp[p] = Arrays.copyOf(xp[p], frameCapacity);
+                cs[p] = Arrays.copyOf(cs[p], frameCapacity);
+            }
+        }
+        totalGold[participant][frame] = goldValue;
+        xp[participant][frame] = xpValue;
+        cs[participant][frame] = csValue;
+        frameCount = Math.max(frameCount, frame + 1);
+    }
+
+    // ===== 저장 형식: 곡선은 누적값이라 프레임 간 차이만 가변 길이 정수로 기록 (값당 1~2바이트) =====
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(frameIntervalMillis);
+        out.writeByte(puuids.length);
+        out.writeShort(frameCount);
+        for (String puuid : puuids) {
+            out.writeUTF(puuid != null ? puuid : "");
+        }
+        for (int p = 0; p < puuids.length; p++) {
+            writeCurve(out, totalGold[p]);
+            writeCurve(out, xp[p]);
+            writeCurve(out, cs[p]);
+        }
+    }
+
+    public static MatchTimeline readFrom(DataInputStream in, String matchId) throws IOException {
+        MatchTimeline timeline = new MatchTimeline(matchId);
+        timeline.frameIntervalMillis = in.readInt();
+        int participants = in.readUnsignedByte();
+        int frames = in.readUnsignedShort();
+        timeline.puuids = new String[participants];
+        timeline.totalGold = new int[participants][];
+        timeline.xp = new int[participants][];
+        timeline.cs = new int[participants][];
+        for (int p = 0; p < participants; p++) {
+            String puuid = in.readUTF();
+            timeline.puuids[p] = puuid.isEmpty() ? null : puuid;
+        }
+        timeline.frameCapacity = Math.max(frames, 1);
+        timeline.frameCount = frames;
+        for (int p = 0; p < participants; p++) {
+            timeline.totalGold[p] = readCurve(in, frames);
+            timeline.xp[p] = readCurve(in, frames);
+            timeline.cs[p] = readCurve(in, frames);
+        }
+        return timeline;
+    }
+
+    private void writeCurve(DataOutputStream out, int[] curve) throws IOException {
+        int previous = 0;
+        for (int f = 0; f < frameCount; f++) {
+            int delta = curve[f] - previous;
+            writeVarInt(out, (delta << 1) ^ (delta >> 31)); // 드물게 줄어드는 값(골드 소모 등)도 처리
+            previous = curve[f];
+        }
+    }
+
+    private static int[] readCurve(DataInputStream in, int frames) throws IOException {
+        int[] curve = new int[Math.max(frames, 1)];
+        int previous = 0;
+        for (int f = 0; f < frames; f++) {
+            int zigzag = readVarInt(in);
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            curve[f] = previous;
+        }
+        return curve;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 가변 길이 정수");
+    }
+
+    private void ensureParticipant(int participant) {
+        if (participant < puuids.length) {
+            return;
+        }
+        int previous = puuids.length;
+        int size = participant + 1;
+        puuids = Arrays.copyOf(puuids, size);
+        totalGold = Arrays.copyOf(totalGold, size);
+        xp = Arrays.copyOf(xp, size);
+        cs = Arrays.copyOf(cs, size);
+        for (int p = previous; p < size; p++) {
+            allocateParticipant(p);
+        }
+    }
+
+    private void allocateParticipant(int participant) {
+        totalGold[participant] = new int[frameCapacity];
+        xp[participant] = new int[frameCapacity];
+        cs[participant] = new int[frameCapacity];
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.demo.riot.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * ⏱️ match-v5 타임라인 JSON 스트리밍 파서
+ *
+ * 타임라인은 경기 상세의 10배가 넘는 크기(대부분 events)라 byte[]로 받지 않고
+ * 응답 스트림을 토큰 단위로 읽으면서 곡선 값만 원시 배열에 채운다 - 메모리는 응답 크기와 무관.
+ *
+ * 읽는 필드: metadata.participants[], info.frameInterval, info.participants[],
+ *           info.frames[].participantFrames.{id}.totalGold/xp/minionsKilled/jungleMinionsKilled
+ */
+@Component
+public class MatchTimelineParser {
+
+    private final JsonFactory jsonFactory;
+
+    public MatchTimelineParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 스트림 끝까지 읽어서 참가자 전원의 곡선 추출
+     */
+    public MatchTimeline parse(InputStream payload, String matchId) throws IOException {
+        MatchTimeline timeline = new MatchTimeline(matchId);
+
+        try (JsonParser parser = jsonFactory.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("타임라인 JSON 형식이 아닙니다: " + matchId);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "metadata" -> parseMetadata(parser, timeline);
+                    case "info" -> parseInfo(parser, timeline);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return timeline;
+    }
+
+    private void parseMetadata(JsonParser parser, MatchTimeline timeline) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && "participants".equals(field)) {
+                // 순서 = participantId - 1
+                for (int p = 0; parser.nextToken() == JsonToken.VALUE_STRING; p++) {
+                    timeline.setPuuid(p, parser.getText());
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void parseInfo(JsonParser parser, MatchTimeline timeline) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "frameInterval" -> timeline.setFrameIntervalMillis(parser.getIntValue());
+                case "frames" -> parseFrames(parser, timeline);
+                case "participants" -> parseParticipants(parser, timeline);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void parseParticipants(JsonParser parser, MatchTimeline timeline) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            int participantId = 0;
+            String puuid = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "participantId" -> participantId = parser.getIntValue();
+                    case "puuid" -> puuid = parser.getText();
+                    default -> parser.skipChildren();
+                }
+            }
+            if (participantId > 0 && puuid != null) {
+                timeline.setPuuid(participantId - 1, puuid);
+            }
+        }
+    }
+
+    private void parseFrames(JsonParser parser, MatchTimeline timeline) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        for (int frame = 0; parser.nextToken() == JsonToken.START_OBJECT; frame++) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("participantFrames".equals(field)) {
+                    parseParticipantFrames(parser, timeline, frame);
+                } else {
+                    parser.skipChildren(); // events - 타임라인 크기의 대부분, 읽기만 하고 버림
+                }
+            }
+        }
+    }
+
+    private void parseParticipantFrames(JsonParser parser, MatchTimeline timeline, int frame) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            int participantId = parseParticipantId(parser.currentName());
+            parser.nextToken();
+            int gold = 0, experience = 0, minions = 0, monsters = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "participantId" -> participantId = parser.getIntValue();
+                    case "totalGold" -> gold = parser.getIntValue();
+                    case "xp" -> experience = parser.getIntValue();
+                    case "minionsKilled" -> minions = parser.getIntValue();
+                    case "jungleMinionsKilled" -> monsters = parser.getIntValue();
+                    default -> parser.skipChildren();
+                }
+            }
+            if (participantId > 0) {
+                timeline.setFrame(participantId - 1, frame, gold, experience, minions + monsters);
+            }
+        }
+    }
+
+    private static int parseParticipantId(String key) {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
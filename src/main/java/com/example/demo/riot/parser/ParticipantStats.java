@@ -0,0 +1,50 @@
+package com.example.demo.riot.parser;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 경기 참가자 한 명의 성과 데이터 (match-v5 info.participants[] 중 필요한 필드만)
+ *
+ * 스트리밍 파서가 채우는 값이라 모두 원시 타입으로 보관 (박싱 없음)
+ */
+@Getter
+@Setter
+public class ParticipantStats {
+    private String puuid;
+    private String riotIdGameName;
+    private String riotIdTagline;
+    private int championId;
+    private int teamId;
+    private boolean win;
+    private int kills;
+    private int deaths;
+    private int assists;
+    private int totalMinionsKilled;
+    private int neutralMinionsKilled;
+    private int totalDamageDealtToChampions;
+    private int goldEarned;
+
+    /**
+     * 미니언 + 정글 몬스터
+     */
+    public int getCs() {
+        return totalMinionsKilled + neutralMinionsKilled;
+    }
+
+    void reset() {
+        puuid = null;
+        riotIdGameName = null;
+        riotIdTagline = null;
+        championId = 0;
+        teamId = 0;
+        win = false;
+        kills = 0;
+        deaths = 0;
+        assists = 0;
+        totalMinionsKilled = 0;
+        neutralMinionsKilled = 0;
+        totalDamageDealtToChampions = 0;
+        goldEarned = 0;
+    }
+}
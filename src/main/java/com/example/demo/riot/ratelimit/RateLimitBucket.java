@@ -0,0 +1,151 @@
+package com.example.demo.riot.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Riot 호출 한도 버킷 (앱 전체 또는 라우트 하나)
+ *
+ * Riot 한도는 "20:1,100:120" 처럼 여러 윈도우(한도:초)로 내려오므로
+ * 윈도우마다 토큰을 들고 있다가 윈도우가 끝나면 다시 채운다.
+ * 모든 메서드는 RiotRateLimiter의 락 안에서만 호출된다 (자체 동기화 없음).
+ */
+class RateLimitBucket {
+
+    private final List<Window> windows = new ArrayList<>();
+    private String limitSpec;
+    private long blockedUntil;
+
+    RateLimitBucket(String limitSpec) {
+        applyLimits(limitSpec);
+    }
+
+    /**
+     * 지금 토큰을 쓸 수 있으면 0, 아니면 기다려야 하는 시간(ms)
+     */
+    long waitMillis(long now) {
+        long wait = Math.max(0, blockedUntil - now);
+        for (Window window : windows) {
+            wait = Math.max(wait, window.waitMillis(now));
+        }
+        return wait;
+    }
+
+    void consume(long now) {
+        for (Window window : windows) {
+            window.consume(now);
+        }
+    }
+
+    /**
+     * 응답 헤더의 한도 (예: "20:1,100:120") 반영 - 바뀐 경우에만 윈도우 재구성
+     */
+    void applyLimits(String spec) {
+        if (spec == null || spec.isBlank() || spec.equals(limitSpec)) {
+            return;
+        }
+        List<Window> parsed = new ArrayList<>();
+        for (long[] pair : parse(spec)) {
+            parsed.add(new Window((int) pair[0], pair[1] * 1000L));
+        }
+        if (parsed.isEmpty()) {
+            return;
+        }
+        windows.clear();
+        windows.addAll(parsed);
+        limitSpec = spec;
+    }
+
+    /**
+     * 응답 헤더의 사용량 (예: "3:1,40:120") 반영 - 다른 서버 인스턴스 사용분까지 맞춤
+     */
+    void applyCounts(String spec, long now) {
+        if (spec == null || spec.isBlank()) {
+            return;
+        }
+        for (long[] pair : parse(spec)) {
+            for (Window window : windows) {
+                if (window.windowMillis == pair[1] * 1000L) {
+                    window.syncUsed((int) pair[0], now);
+                }
+            }
+        }
+    }
+
+    void blockUntil(long until) {
+        blockedUntil = Math.max(blockedUntil, until);
+    }
+
+    /**
+     * 가장 빡빡한 윈도우 기준 남은 호출 수
+     */
+    int remaining(long now) {
+        int remaining = Integer.MAX_VALUE;
+        for (Window window : windows) {
+            remaining = Math.min(remaining, window.remaining(now));
+        }
+        return remaining == Integer.MAX_VALUE ? 0 : remaining;
+    }
+
+    private static List<long[]> parse(String spec) {
+        List<long[]> pairs = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] tokens = part.trim().split(":");
+            if (tokens.length != 2) {
+                continue;
+            }
+            try {
+                long first = Long.parseLong(tokens[0].trim());
+                long seconds = Long.parseLong(tokens[1].trim());
+                if (first >= 0 && seconds > 0) {
+                    pairs.add(new long[]{first, seconds});
+                }
+            } catch (NumberFormatException ignored) {
+                // 형식이 깨진 윈도우는 무시
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * 고정 윈도우 하나 - 첫 호출 시점부터 windowMillis 동안 limit 회
+     */
+    private static final class Window {
+        private final int limit;
+        private final long windowMillis;
+        private long windowStart;
+        private int used;
+
+        private Window(int limit, long windowMillis) {
+            this.limit = Math.max(1, limit);
+            this.windowMillis = windowMillis;
+        }
+
+        private void roll(long now) {
+            if (now - windowStart >= windowMillis) {
+                windowStart = now;
+                used = 0;
+            }
+        }
+
+        private long waitMillis(long now) {
+            roll(now);
+            return used < limit ? 0 : windowStart + windowMillis - now;
+        }
+
+        private void consume(long now) {
+            roll(now);
+            used++;
+        }
+
+        private void syncUsed(int serverUsed, long now) {
+            roll(now);
+            used = Math.max(used, serverUsed);
+        }
+
+        private int remaining(long now) {
+            roll(now);
+            return Math.max(0, limit - used);
+        }
+    }
+}
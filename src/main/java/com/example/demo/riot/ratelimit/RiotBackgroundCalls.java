@@ -0,0 +1,52 @@
+package com.example.demo.riot.ratelimit;
+
+import java.util.function.Supplier;
+
+/**
+ * 백그라운드 작업(추적 플레이어 갱신 등)에서 나간 Riot 호출 표시
+ *
+ * 표시된 스레드의 호출은 RiotRateLimiter가 지역별 백그라운드 버킷에도 따로 센다.
+ * 조회 풀로 넘기는 작업은 propagate로 감싸야 표시가 따라간다 (RiotRegionExecutors.supply).
+ */
+public final class RiotBackgroundCalls {
+
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> false);
+
+    private RiotBackgroundCalls() {
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get();
+    }
+
+    /**
+     * 현재 스레드를 백그라운드로 표시하고 task 실행
+     */
+    public static void run(Runnable task) {
+        boolean previous = ACTIVE.get();
+        ACTIVE.set(true);
+        try {
+            task.run();
+        } finally {
+            ACTIVE.set(previous);
+        }
+    }
+
+    /**
+     * 제출하는 스레드의 표시를 실행 스레드로 넘기도록 감쌈
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        if (!isActive()) {
+            return task;
+        }
+        return () -> {
+            boolean previous = ACTIVE.get();
+            ACTIVE.set(true);
+            try {
+                return task.get();
+            } finally {
+                ACTIVE.set(previous);
+            }
+        };
+    }
+}
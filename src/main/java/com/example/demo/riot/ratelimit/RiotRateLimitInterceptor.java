@@ -0,0 +1,55 @@
+package com.example.demo.riot.ratelimit;
+
+import com.example.demo.riot.RiotRegion;
+import com.example.demo.riot.RiotRegionRouting;
+import com.example.demo.riot.RiotRoute;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+/**
+ * riotRestTemplate 인터셉터: 호출 전 토큰 확보(지역별 한도), 429면 Retry-After 후 재시도
+ */
+@Component
+@RequiredArgsConstructor
+public class RiotRateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final RiotRateLimiter rateLimiter;
+    private final RiotRegionRouting regionRouting;
+
+    @Value("${riot.rate-limit.max-retries:2}")
+    private int maxRetries;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        RiotRoute route = RiotRoute.fromPath(request.getURI().getPath());
+        RiotRegion region = regionRouting.regionOf(request.getURI());
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                rateLimiter.acquire(region, route);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Riot 호출 한도 대기 중 인터럽트");
+            }
+
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getStatusCode().value();
+            rateLimiter.onResponse(region, route, status, response.getHeaders());
+
+            if (status != 429 || attempt >= maxRetries) {
+                return response;
+            }
+            response.close();
+            rateLimiter.onRetry(region, route);
+        }
+    }
+}
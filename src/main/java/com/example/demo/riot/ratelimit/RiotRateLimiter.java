@@ -0,0 +1,227 @@
+package com.example.demo.riot.ratelimit;
+
+import com.example.demo.riot.RiotRegion;
+import com.example.demo.riot.RiotRoute;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 🚦 Riot API 호출 한도 관리자
+ *
+ * - 앱 한도(X-App-Rate-Limit) + 라우트별 메서드 한도(X-Method-Rate-Limit)를 모두 지킴
+ * - Riot 한도는 지역(americas/asia/europe/sea)마다 따로 매겨지므로 버킷/대기열/지표도 지역별
+ *   → 한 지역이 한도에 걸려 대기해도 다른 지역 호출은 영향 없음
+ * - 한도 초과 시 실패시키지 않고 지역 x 라우트별 공정 큐(fair lock)에서 순서대로 대기
+ * - 429 응답의 Retry-After 만큼 해당 버킷을 막아둠
+ * - 남은 호출 수, 대기 시간을 Micrometer 지표로 노출
+ * - 백그라운드 호출(RiotBackgroundCalls)은 앱 한도 x backgroundShare 크기의 지역별 버킷에도 따로 셈
+ *   → 백그라운드 작업은 backgroundRemaining으로 자기 몫이 남았는지 보고 시작
+ */
+@Component
+@Slf4j
+public class RiotRateLimiter {
+
+    private final Map<RiotRegion, RegionLimits> regions = new EnumMap<>(RiotRegion.class);
+    private final double backgroundShare;
+
+    public RiotRateLimiter(MeterRegistry meterRegistry,
+                           @Value("${riot.rate-limit.app:20:1,100:120}") String appLimits,
+                           @Value("${riot.rate-limit.method:2000:10}") String methodLimits,
+                           @Value("${riot.tracking.budget-share:0.3}") double backgroundShare) {
+        this.backgroundShare = backgroundShare;
+        for (RiotRegion region : RiotRegion.values()) {
+            regions.put(region, new RegionLimits(meterRegistry, region, appLimits, methodLimits));
+        }
+    }
+
+    /**
+     * 호출 토큰 확보 - 한도가 찰 때까지 지역 x 라우트 큐에서 순서대로 대기
+     */
+    public void acquire(RiotRegion region, RiotRoute route) throws InterruptedException {
+        RegionLimits limits = regions.get(region);
+        long startNanos = System.nanoTime();
+        ReentrantLock queue = limits.routeQueues.get(route);
+        queue.lockInterruptibly();
+        try {
+            while (true) {
+                long wait;
+                synchronized (limits) {
+                    long now = System.currentTimeMillis();
+                    RateLimitBucket method = limits.methodBuckets.get(route);
+                    wait = Math.max(limits.appBucket.waitMillis(now), method.waitMillis(now));
+                    if (wait == 0) {
+                        limits.appBucket.consume(now);
+                        method.consume(now);
+                        if (RiotBackgroundCalls.isActive()) {
+                            // 백그라운드 버킷은 기다리지 않고 세기만 함 (시작 전에 backgroundRemaining으로 확인)
+                            limits.backgroundBucket.consume(now);
+                        }
+                        break;
+                    }
+                }
+                log.debug("Riot 호출 한도 대기: region={}, route={}, {}ms", region.getTag(), route.getTag(), wait);
+                Thread.sleep(wait);
+            }
+        } finally {
+            queue.unlock();
+            limits.waitTimers.get(route).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 응답 헤더로 한도/사용량 갱신, 429면 Retry-After 만큼 차단
+     */
+    public void onResponse(RiotRegion region, RiotRoute route, int statusCode, HttpHeaders headers) {
+        RegionLimits limits = regions.get(region);
+        synchronized (limits) {
+            long now = System.currentTimeMillis();
+            RateLimitBucket method = limits.methodBuckets.get(route);
+
+            String appLimits = headers.getFirst("X-App-Rate-Limit");
+            limits.appBucket.applyLimits(appLimits);
+            limits.backgroundBucket.applyLimits(backgroundLimits(appLimits));
+            limits.appBucket.applyCounts(headers.getFirst("X-App-Rate-Limit-Count"), now);
+            method.applyLimits(headers.getFirst("X-Method-Rate-Limit"));
+            method.applyCounts(headers.getFirst("X-Method-Rate-Limit-Count"), now);
+
+            if (statusCode == 429) {
+                limits.throttledCounters.get(route).increment();
+                long until = now + retryAfterMillis(headers);
+                // X-Rate-Limit-Type: application / method / service
+                if ("method".equalsIgnoreCase(headers.getFirst("X-Rate-Limit-Type"))) {
+                    method.blockUntil(until);
+                } else {
+                    limits.appBucket.blockUntil(until);
+                }
+                log.warn("Riot 429 수신: region={}, route={}, {}ms 동안 대기", region.getTag(), route.getTag(), until - now);
+            }
+        }
+    }
+
+    /**
+     * 429 재시도 기록
+     */
+    public void onRetry(RiotRegion region, RiotRoute route) {
+        regions.get(region).retryCounters.get(route).increment();
+    }
+
+    /**
+     * 남은 호출 수 (route가 null이면 앱 한도 기준)
+     */
+    public int remaining(RiotRegion region, RiotRoute route) {
+        RegionLimits limits = regions.get(region);
+        synchronized (limits) {
+            long now = System.currentTimeMillis();
+            int app = limits.appBucket.remaining(now);
+            return route == null ? app : Math.min(app, limits.methodBuckets.get(route).remaining(now));
+        }
+    }
+
+    /**
+     * 백그라운드 몫(앱 한도 x backgroundShare)에서 남은 호출 수
+     */
+    public int backgroundRemaining(RiotRegion region) {
+        RegionLimits limits = regions.get(region);
+        synchronized (limits) {
+            return limits.backgroundBucket.remaining(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 앱 한도 "20:1,100:120"을 backgroundShare 비율로 줄인 한도 (0.3이면 "6:1,30:120", 윈도우마다 최소 1)
+     */
+    private String backgroundLimits(String appLimits) {
+        if (appLimits == null || appLimits.isBlank()) {
+            return appLimits;
+        }
+        StringBuilder scaled = new StringBuilder();
+        for (String part : appLimits.split(",")) {
+            String[] tokens = part.trim().split(":");
+            if (tokens.length != 2) {
+                continue;
+            }
+            try {
+                long limit = Math.max(1, (long) Math.floor(Long.parseLong(tokens[0].trim()) * backgroundShare));
+                if (scaled.length() > 0) {
+                    scaled.append(',');
+                }
+                scaled.append(limit).append(':').append(tokens[1].trim());
+            } catch (NumberFormatException ignored) {
+                // 형식이 깨진 윈도우는 무시 (RateLimitBucket과 같은 규칙)
+            }
+        }
+        return scaled.toString();
+    }
+
+    private long retryAfterMillis(HttpHeaders headers) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            try {
+                return Long.parseLong(retryAfter.trim()) * 1000L;
+            } catch (NumberFormatException ignored) {
+                // HTTP-date 형식은 Riot이 쓰지 않으므로 기본값 사용
+            }
+        }
+        return 1000L;
+    }
+
+    /**
+     * 지역 하나의 버킷/대기열/지표 (버킷은 이 객체를 잠그고 접근)
+     */
+    private final class RegionLimits {
+
+        private final RateLimitBucket appBucket;
+        private final RateLimitBucket backgroundBucket;
+        private final Map<RiotRoute, RateLimitBucket> methodBuckets = new EnumMap<>(RiotRoute.class);
+        private final Map<RiotRoute, ReentrantLock> routeQueues = new EnumMap<>(RiotRoute.class);
+        private final Map<RiotRoute, Timer> waitTimers = new EnumMap<>(RiotRoute.class);
+        private final Map<RiotRoute, Counter> throttledCounters = new EnumMap<>(RiotRoute.class);
+        private final Map<RiotRoute, Counter> retryCounters = new EnumMap<>(RiotRoute.class);
+
+        private RegionLimits(MeterRegistry meterRegistry, RiotRegion region, String appLimits, String methodLimits) {
+            this.appBucket = new RateLimitBucket(appLimits);
+            this.backgroundBucket = new RateLimitBucket(backgroundLimits(appLimits));
+            Gauge.builder("riot.ratelimit.remaining", RiotRateLimiter.this, limiter -> limiter.remaining(region, null))
+                    .tag("scope", "app")
+                    .tag("region", region.getTag())
+                    .description("Riot 앱 한도 기준 남은 호출 수")
+                    .register(meterRegistry);
+
+            for (RiotRoute route : RiotRoute.values()) {
+                methodBuckets.put(route, new RateLimitBucket(methodLimits));
+                routeQueues.put(route, new ReentrantLock(true));
+                waitTimers.put(route, Timer.builder("riot.ratelimit.queue.wait")
+                        .tag("route", route.getTag())
+                        .tag("region", region.getTag())
+                        .description("Riot 호출 한도 대기 시간")
+                        .register(meterRegistry));
+                throttledCounters.put(route, Counter.builder("riot.ratelimit.throttled")
+                        .tag("route", route.getTag())
+                        .tag("region", region.getTag())
+                        .description("Riot 429 응답 수")
+                        .register(meterRegistry));
+                retryCounters.put(route, Counter.builder("riot.ratelimit.retries")
+                        .tag("route", route.getTag())
+                        .tag("region", region.getTag())
+                        .description("429 이후 재시도한 Riot 호출 수")
+                        .register(meterRegistry));
+                Gauge.builder("riot.ratelimit.remaining", RiotRateLimiter.this, limiter -> limiter.remaining(region, route))
+                        .tag("scope", route.getTag())
+                        .tag("region", region.getTag())
+                        .description("Riot 메서드 한도 기준 남은 호출 수")
+                        .register(meterRegistry);
+            }
+        }
+    }
+}
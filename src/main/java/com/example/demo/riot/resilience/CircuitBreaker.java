@@ -0,0 +1,153 @@
+package com.example.demo.riot.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 라우트 하나의 서킷 브레이커
+ *
+ * - CLOSED: 최근 windowSize개 호출 결과를 링 버퍼로 보관, 실패율/지연율이 기준을 넘으면 OPEN
+ * - OPEN: openMillis 동안 호출을 바로 거절
+ * - HALF_OPEN: 시험 호출 halfOpenProbes개만 허용, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ *
+ * 모든 메서드는 synchronized (호출당 짧은 구간 한 번)
+ */
+class CircuitBreaker {
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallMillis;
+    private final long openMillis;
+    private final int halfOpenProbes;
+
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int next;
+    private int recorded;
+    private int failedCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    CircuitBreaker(int windowSize, int minCalls, double failureRateThreshold, double slowCallRateThreshold,
+                   long slowCallMillis, long openMillis, int halfOpenProbes) {
+        this.failed = new boolean[windowSize];
+        this.slow = new boolean[windowSize];
+        this.minCalls = minCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallMillis = slowCallMillis;
+        this.openMillis = openMillis;
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /**
+     * 호출 허용 여부 (OPEN 시간이 끝났으면 HALF_OPEN으로 넘어가 시험 호출 허용)
+     */
+    synchronized boolean tryAcquire(long now) {
+        if (state == State.OPEN) {
+            if (now - openedAt < openMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    /**
+     * tryAcquire로 받은 호출이 끝났을 때 (결과 기록 여부와 무관하게 항상 호출)
+     */
+    synchronized void release() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    /**
+     * 호출 결과 기록 (429처럼 판단에서 뺄 결과는 기록하지 않음)
+     */
+    synchronized void record(boolean failure, long elapsedMillis, long now) {
+        boolean slowCall = elapsedMillis >= slowCallMillis;
+        if (state == State.HALF_OPEN) {
+            if (failure || slowCall) {
+                open(now);
+            } else if (++probeSuccesses >= halfOpenProbes) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return; // 열리기 전에 나간 호출의 늦은 결과
+        }
+
+        if (recorded == failed.length) {
+            failedCount -= failed[next] ? 1 : 0;
+            slowCount -= slow[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failed[next] = failure;
+        slow[next] = slowCall;
+        failedCount += failure ? 1 : 0;
+        slowCount += slowCall ? 1 : 0;
+        next = (next + 1) % failed.length;
+
+        if (recorded >= minCalls
+                && (failureRate() >= failureRateThreshold || slowCallRate() >= slowCallRateThreshold)) {
+            open(now);
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    synchronized double failureRate() {
+        return recorded == 0 ? 0.0 : failedCount * 100.0 / recorded;
+    }
+
+    synchronized double slowCallRate() {
+        return recorded == 0 ? 0.0 : slowCount * 100.0 / recorded;
+    }
+
+    synchronized int recordedCalls() {
+        return recorded;
+    }
+
+    /**
+     * 다시 시도해 볼 수 있을 때까지 남은 시간(ms)
+     */
+    synchronized long retryAfterMillis(long now) {
+        return state == State.OPEN ? Math.max(0, openMillis - (now - openedAt)) : 0;
+    }
+
+    private void open(long now) {
+        state = State.OPEN;
+        openedAt = now;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failedCount = 0;
+        slowCount = 0;
+        Arrays.fill(failed, false);
+        Arrays.fill(slow, false);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.riot.resilience;
+
+import com.example.demo.riot.RiotRegion;
+import com.example.demo.riot.RiotRegionRouting;
+import com.example.demo.riot.RiotRoute;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+/**
+ * riotRestTemplate 인터셉터 (호출 한도 인터셉터보다 앞): 서킷/동시 호출 자리 확보
+ *
+ * 호출 한도 대기까지 포함해서 자리를 잡으므로 Riot 쪽에 묶이는 스레드 수가 maxConcurrent를 넘지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RiotBulkheadInterceptor implements ClientHttpRequestInterceptor {
+
+    private final RiotCircuitBreakers circuitBreakers;
+    private final RiotRegionRouting regionRouting;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        RiotRoute route = RiotRoute.fromPath(request.getURI().getPath());
+        RiotRegion region = regionRouting.regionOf(request.getURI());
+        try {
+            circuitBreakers.acquire(region, route);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Riot 호출 자리 대기 중 인터럽트");
+        }
+        try {
+            return execution.execute(request, body);
+        } finally {
+            circuitBreakers.release(region, route);
+        }
+    }
+}
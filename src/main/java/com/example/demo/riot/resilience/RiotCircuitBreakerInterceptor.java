@@ -0,0 +1,54 @@
+package com.example.demo.riot.resilience;
+
+import com.example.demo.riot.RiotRegion;
+import com.example.demo.riot.RiotRegionRouting;
+import com.example.demo.riot.RiotRoute;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * riotRestTemplate 요청 팩토리 안쪽 인터셉터: 실제 HTTP 호출 결과를 서킷에 기록
+ *
+ * 시도마다 새로 만드는 요청 안에서 돌기 때문에 429 재시도도 시도마다 거친다 (RiotRestTemplateConfig 참고).
+ * 호출 한도 대기 시간은 빼고 Riot 응답 시간만 잰다.
+ * - 5xx, I/O 오류(타임아웃 포함): 실패
+ * - 429: 한도 문제라 기록하지 않음
+ * - 그 외(404 포함): 성공
+ */
+@Component
+@RequiredArgsConstructor
+public class RiotCircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+
+    private final RiotCircuitBreakers circuitBreakers;
+    private final RiotRegionRouting regionRouting;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        RiotRoute route = RiotRoute.fromPath(request.getURI().getPath());
+        RiotRegion region = regionRouting.regionOf(request.getURI());
+        long startNanos = System.nanoTime();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException e) {
+            circuitBreakers.record(region, route, true, elapsedMillis(startNanos));
+            throw e;
+        }
+        int status = response.getStatusCode().value();
+        if (status != 429) {
+            circuitBreakers.record(region, route, status >= 500, elapsedMillis(startNanos));
+        }
+        return response;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+}
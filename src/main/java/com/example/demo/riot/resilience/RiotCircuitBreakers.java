@@ -0,0 +1,170 @@
+package com.example.demo.riot.resilience;
+
+import com.example.demo.riot.RiotRegion;
+import com.example.demo.riot.RiotRoute;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🛡️ Riot 호출 보호 (지역 x 라우트별 서킷 브레이커 + 지역별 동시 호출 상한)
+ *
+ * Riot이 느려지면 막힌 호출마다 Tomcat 스레드가 묶여서 게시판/인증 API까지 같이 멈춘다.
+ * - 벌크헤드: 지역마다 동시에 진행 중인 Riot 호출 수를 maxConcurrent로 제한, 자리가 없으면 잠깐만 기다리고 실패
+ *   (한 지역이 느려져도 다른 지역 자리는 그대로)
+ * - 서킷 브레이커: 지역 x 라우트별 실패율/지연율이 기준을 넘으면 한동안 호출 없이 바로 실패
+ * - 상태/거절 수는 Micrometer 지표 + actuator(riotcircuits)로 노출
+ */
+@Component
+@Slf4j
+public class RiotCircuitBreakers {
+
+    private final Map<RiotRegion, RegionGuard> regions = new EnumMap<>(RiotRegion.class);
+    private final int maxConcurrent;
+    private final long maxWaitMillis;
+
+    public RiotCircuitBreakers(MeterRegistry meterRegistry,
+                               @Value("${riot.circuit.window-size:50}") int windowSize,
+                               @Value("${riot.circuit.min-calls:20}") int minCalls,
+                               @Value("${riot.circuit.failure-rate-threshold:50}") double failureRateThreshold,
+                               @Value("${riot.circuit.slow-call-rate-threshold:80}") double slowCallRateThreshold,
+                               @Value("${riot.circuit.slow-call-ms:3000}") long slowCallMillis,
+                               @Value("${riot.circuit.open-seconds:30}") long openSeconds,
+                               @Value("${riot.circuit.half-open-probes:3}") int halfOpenProbes,
+                               @Value("${riot.bulkhead.max-concurrent:32}") int maxConcurrent,
+                               @Value("${riot.bulkhead.max-wait-ms:200}") long maxWaitMillis) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitMillis = maxWaitMillis;
+
+        for (RiotRegion region : RiotRegion.values()) {
+            RegionGuard guard = new RegionGuard(new Semaphore(maxConcurrent, true),
+                    Counter.builder("riot.bulkhead.rejected")
+                            .tag("region", region.getTag())
+                            .description("동시 호출 상한 초과로 거절된 Riot 호출 수")
+                            .register(meterRegistry));
+            Gauge.builder("riot.bulkhead.active", this, breakers -> breakers.activeCalls(region))
+                    .tag("region", region.getTag())
+                    .description("진행 중인 Riot 호출 수")
+                    .register(meterRegistry);
+
+            for (RiotRoute route : RiotRoute.values()) {
+                CircuitBreaker breaker = new CircuitBreaker(windowSize, minCalls, failureRateThreshold,
+                        slowCallRateThreshold, slowCallMillis, openSeconds * 1000L, halfOpenProbes);
+                guard.breakers.put(route, breaker);
+                guard.circuitRejections.put(route, Counter.builder("riot.circuit.rejected")
+                        .tag("route", route.getTag())
+                        .tag("region", region.getTag())
+                        .description("서킷 OPEN으로 거절된 Riot 호출 수")
+                        .register(meterRegistry));
+                Gauge.builder("riot.circuit.state", breaker, b -> b.getState().ordinal())
+                        .tag("route", route.getTag())
+                        .tag("region", region.getTag())
+                        .description("서킷 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                        .register(meterRegistry);
+            }
+            regions.put(region, guard);
+        }
+    }
+
+    /**
+     * 호출 자리 확보 - 서킷이 열려 있거나 지역 동시 호출 자리가 없으면 RiotUnavailableException
+     *
+     * 성공하면 호출이 끝난 뒤 반드시 release(region, route)
+     */
+    public void acquire(RiotRegion region, RiotRoute route) throws InterruptedException {
+        RegionGuard guard = regions.get(region);
+        CircuitBreaker breaker = guard.breakers.get(route);
+        long now = System.currentTimeMillis();
+        if (!breaker.tryAcquire(now)) {
+            guard.circuitRejections.get(route).increment();
+            throw new RiotUnavailableException(route,
+                    "Riot API(" + region.getTag() + "/" + route.getTag() + ")가 불안정해서 잠시 요청을 중단했습니다",
+                    Math.max(1, TimeUnit.MILLISECONDS.toSeconds(breaker.retryAfterMillis(now))));
+        }
+        if (!guard.bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+            breaker.release();
+            guard.bulkheadRejections.increment();
+            throw new RiotUnavailableException(route, "Riot API 요청이 너무 많습니다. 잠시 후 다시 시도해주세요", 1);
+        }
+    }
+
+    public void release(RiotRegion region, RiotRoute route) {
+        RegionGuard guard = regions.get(region);
+        guard.bulkhead.release();
+        guard.breakers.get(route).release();
+    }
+
+    /**
+     * 실제 HTTP 호출 결과 기록 (실패 = 5xx / 연결·응답 타임아웃 등 I/O 오류)
+     */
+    public void record(RiotRegion region, RiotRoute route, boolean failure, long elapsedMillis) {
+        CircuitBreaker breaker = regions.get(region).breakers.get(route);
+        CircuitBreaker.State before = breaker.getState();
+        breaker.record(failure, elapsedMillis, System.currentTimeMillis());
+        CircuitBreaker.State after = breaker.getState();
+        if (before != after) {
+            log.warn("Riot 서킷 상태 변경: region={}, route={}, {} → {} (실패율 {}%, 지연율 {}%)",
+                    region.getTag(), route.getTag(), before, after,
+                    Math.round(breaker.failureRate()), Math.round(breaker.slowCallRate()));
+        }
+    }
+
+    public int activeCalls(RiotRegion region) {
+        return maxConcurrent - regions.get(region).bulkhead.availablePermits();
+    }
+
+    /**
+     * actuator 노출용 현재 상태 (지역별)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        regions.forEach((region, guard) -> {
+            Map<String, Object> circuits = new LinkedHashMap<>();
+            guard.breakers.forEach((route, breaker) -> {
+                Map<String, Object> circuit = new LinkedHashMap<>();
+                circuit.put("state", breaker.getState().name());
+                circuit.put("failureRate", breaker.failureRate());
+                circuit.put("slowCallRate", breaker.slowCallRate());
+                circuit.put("recordedCalls", breaker.recordedCalls());
+                circuit.put("rejected", (long) guard.circuitRejections.get(route).count());
+                circuits.put(route.getTag(), circuit);
+            });
+
+            Map<String, Object> bulkheadState = new LinkedHashMap<>();
+            bulkheadState.put("maxConcurrent", maxConcurrent);
+            bulkheadState.put("active", activeCalls(region));
+            bulkheadState.put("rejected", (long) guard.bulkheadRejections.count());
+
+            Map<String, Object> regionState = new LinkedHashMap<>();
+            regionState.put("bulkhead", bulkheadState);
+            regionState.put("circuits", circuits);
+            snapshot.put(region.getTag(), regionState);
+        });
+        return snapshot;
+    }
+
+    /**
+     * 지역 하나의 벌크헤드 + 라우트별 서킷
+     */
+    private static final class RegionGuard {
+
+        private final Semaphore bulkhead;
+        private final Counter bulkheadRejections;
+        private final Map<RiotRoute, CircuitBreaker> breakers = new EnumMap<>(RiotRoute.class);
+        private final Map<RiotRoute, Counter> circuitRejections = new EnumMap<>(RiotRoute.class);
+
+        private RegionGuard(Semaphore bulkhead, Counter bulkheadRejections) {
+            this.bulkhead = bulkhead;
+            this.bulkheadRejections = bulkheadRejections;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.riot.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * actuator 엔드포인트: GET /actuator/riotcircuits
+ *
+ * 지역별 - 라우트별 서킷 상태/실패율/거절 수 + 벌크헤드 사용량
+ * (management.endpoints.web.exposure.include에 riotcircuits 추가 필요)
+ */
+@Component
+@Endpoint(id = "riotcircuits")
+@RequiredArgsConstructor
+public class RiotCircuitsEndpoint {
+
+    private final RiotCircuitBreakers circuitBreakers;
+
+    @ReadOperation
+    public Map<String, Object> circuits() {
+        return circuitBreakers.snapshot();
+    }
+}
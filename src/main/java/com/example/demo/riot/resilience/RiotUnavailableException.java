@@ -0,0 +1,22 @@
+package com.example.demo.riot.resilience;
+
+import com.example.demo.riot.RiotRoute;
+import lombok.Getter;
+
+/**
+ * Riot 호출을 보내지 않고 바로 실패시킴 (서킷 OPEN 또는 동시 호출 상한 초과)
+ *
+ * GlobalExceptionHandler에서 503 + Retry-After로 응답
+ */
+@Getter
+public class RiotUnavailableException extends RuntimeException {
+
+    private final RiotRoute route;
+    private final long retryAfterSeconds;
+
+    public RiotUnavailableException(RiotRoute route, String message, long retryAfterSeconds) {
+        super(message);
+        this.route = route;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
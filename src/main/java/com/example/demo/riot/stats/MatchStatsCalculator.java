@@ -0,0 +1,79 @@
+package com.example.demo.riot.stats;
+
+import com.example.demo.riot.dto.MatchDetailResponse;
+import com.example.demo.riot.dto.MatchStatsResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 🧮 전적 통계 계산
+ *
+ * - fromMatches: 경기 목록을 처음부터 훑어서 계산 (조회한 경기 목록 그대로의 통계)
+ * - fromTotals: 미리 누적해 둔 합계로 바로 계산 (PlayerStatsAggregator)
+ *
+ * 두 방식이 같은 공식(승률, KDA)을 쓰도록 응답 생성은 여기 한 곳에서만 한다.
+ */
+public final class MatchStatsCalculator {
+
+    private MatchStatsCalculator() {
+    }
+
+    public static MatchStatsResponse fromMatches(List<MatchDetailResponse> matches) {
+        if (matches.isEmpty()) {
+            return empty();
+        }
+
+        int wins = (int) matches.stream().mapToInt(m -> m.isVictory() ? 1 : 0).sum();
+        int totalKills = matches.stream().mapToInt(MatchDetailResponse::getKills).sum();
+        int totalDeaths = matches.stream().mapToInt(MatchDetailResponse::getDeaths).sum();
+        int totalAssists = matches.stream().mapToInt(MatchDetailResponse::getAssists).sum();
+        
+        // 가장 많이 플레이한 챔피언
+        String mostPlayedChampion = matches.stream()
+                .collect(Collectors.groupingBy(MatchDetailResponse::getChampionName, Collectors.counting()))
+                .entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse("알 수 없음");
+
+        return fromTotals(matches.size(), wins, totalKills, totalDeaths, totalAssists, mostPlayedChampion);
+    }
+
+    public static MatchStatsResponse fromTotals(int games, int wins, int totalKills, int totalDeaths,
+                                                int totalAssists, String mostPlayedChampion) {
+        if (games == 0) {
+            return empty();
+        }
+        return MatchStatsResponse.builder()
+                .totalGames(games)
+                .wins(wins)
+                .losses(games - wins)
+                .winRate((double) wins / games * 100)
+                .averageKDA(kda(totalKills, totalDeaths, totalAssists))
+                .mostPlayedChampion(mostPlayedChampion != null ? mostPlayedChampion : "알 수 없음")
+                .totalKills(totalKills)
+                .totalDeaths(totalDeaths)
+                .totalAssists(totalAssists)
+                .build();
+    }
+
+    /**
+     * (킬 + 어시스트) / 데스, 데스가 없으면 킬 + 어시스트
+     */
+    public static double kda(long kills, long deaths, long assists) {
+        return deaths > 0 ? (double) (kills + assists) / deaths : (double) (kills + assists);
+    }
+
+    private static MatchStatsResponse empty() {
+        return MatchStatsResponse.builder()
+                .totalGames(0)
+                .wins(0)
+                .losses(0)
+                .winRate(0.0)
+                .averageKDA(0.0)
+                .mostPlayedChampion("없음")
+                .build();
+    }
+}
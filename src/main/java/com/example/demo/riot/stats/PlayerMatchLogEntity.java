@@ -0,0 +1,68 @@
+package com.example.demo.riot.stats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 플레이어 경기 기록 + 누적 합계 (최근 N경기 통계용)
+ * 
+ * seq는 경기 시작 시각 순서 (1부터), cum* 는 1번부터 seq번까지의 합계.
+ * 최근 N경기 = 최신 행의 누적값 - (최신 seq - N)번 행의 누적값 → 행 2개만 읽으면 된다.
+ */
+@Entity
+@Table(name = "player_match_log",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"puuid", "match_id"}),
+        indexes = @Index(columnList = "puuid, seq"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PlayerMatchLogEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "player_match_log_id")
+    private Long playerMatchLogId;
+
+    @Column(name = "puuid", nullable = false, length = 100)
+    private String puuid;
+
+    @Column(name = "match_id", nullable = false, length = 30)
+    private String matchId;
+
+    @Column(name = "seq", nullable = false)
+    private long seq;
+
+    @Column(name = "game_creation", nullable = false)
+    private long gameCreation;
+
+    @Column(name = "champion_id", nullable = false)
+    private int championId;
+
+    @Column(name = "queue_id", nullable = false)
+    private int queueId;
+
+    @Column(name = "win", nullable = false)
+    private boolean win;
+
+    @Column(name = "kills", nullable = false)
+    private int kills;
+
+    @Column(name = "deaths", nullable = false)
+    private int deaths;
+
+    @Column(name = "assists", nullable = false)
+    private int assists;
+
+    @Column(name = "cum_wins", nullable = false)
+    private long cumWins;
+
+    @Column(name = "cum_kills", nullable = false)
+    private long cumKills;
+
+    @Column(name = "cum_deaths", nullable = false)
+    private long cumDeaths;
+
+    @Column(name = "cum_assists", nullable = false)
+    private long cumAssists;
+}
@@ -0,0 +1,49 @@
+package com.example.demo.riot.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PlayerMatchLogRepository extends JpaRepository<PlayerMatchLogEntity, Long> {
+
+    // 1. 이미 반영된 경기 ID (중복 반영 방지)
+    @Query("SELECT l.matchId FROM PlayerMatchLogEntity l WHERE l.puuid = :puuid AND l.matchId IN :matchIds")
+    List<String> findIngestedMatchIds(@Param("puuid") String puuid, @Param("matchIds") Collection<String> matchIds);
+
+    // 2. 가장 최근 경기 기록
+    Optional<PlayerMatchLogEntity> findTopByPuuidOrderBySeqDesc(String puuid);
+
+    // 3. 특정 시각 이전의 마지막 경기 기록 (과거 경기를 끼워 넣을 때 기준점)
+    Optional<PlayerMatchLogEntity> findTopByPuuidAndGameCreationLessThanOrderBySeqDesc(String puuid, long gameCreation);
+
+    // 4. 순번으로 조회
+    Optional<PlayerMatchLogEntity> findByPuuidAndSeq(String puuid, long seq);
+
+    // 5. 과거 경기를 끼워 넣을 때 그 이후 기록의 순번/누적값을 한 번에 밀어줌
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PlayerMatchLogEntity l SET l.seq = l.seq + 1, " +
+           "l.cumWins = l.cumWins + :wins, l.cumKills = l.cumKills + :kills, " +
+           "l.cumDeaths = l.cumDeaths + :deaths, l.cumAssists = l.cumAssists + :assists " +
+           "WHERE l.puuid = :puuid AND l.gameCreation >= :gameCreation")
+    int shiftAfter(@Param("puuid") String puuid, @Param("gameCreation") long gameCreation,
+                   @Param("wins") long wins, @Param("kills") long kills,
+                   @Param("deaths") long deaths, @Param("assists") long assists);
+
+    // 6. 순번 이후 경기의 챔피언별 판수 (최근 N경기 주력 챔피언)
+    @Query("SELECT l.championId, COUNT(l) FROM PlayerMatchLogEntity l " +
+           "WHERE l.puuid = :puuid AND l.seq > :afterSeq " +
+           "GROUP BY l.championId ORDER BY COUNT(l) DESC")
+    List<Object[]> countChampionsAfterSeq(@Param("puuid") String puuid, @Param("afterSeq") long afterSeq);
+
+    // 7. 기간 내 경기의 챔피언별 판수 (시즌 주력 챔피언)
+    @Query("SELECT l.championId, COUNT(l) FROM PlayerMatchLogEntity l " +
+           "WHERE l.puuid = :puuid AND l.gameCreation >= :from AND l.gameCreation < :to " +
+           "GROUP BY l.championId ORDER BY COUNT(l) DESC")
+    List<Object[]> countChampionsBetween(@Param("puuid") String puuid,
+                                         @Param("from") long from, @Param("to") long to);
+}
@@ -0,0 +1,197 @@
+package com.example.demo.riot.stats;
+
+import com.example.demo.riot.dto.MatchStatsResponse;
+import com.example.demo.riot.gamedata.GameDataRegistry;
+import com.example.demo.riot.parser.MatchSummary;
+import com.example.demo.riot.parser.ParticipantStats;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 📈 플레이어 통계 증분 집계
+ *
+ * 기존: 요청마다 경기 목록을 5번 훑고 groupingBy까지 다시 계산
+ * 개선: 경기가 들어올 때 한 번만 반영 (O(1)), 조회는 누적값으로 바로 응답
+ *
+ * - 전체 / 큐별 / 챔피언별 / 시즌별: player_stats 행에 합계 누적
+ * - 최근 N경기: player_match_log 누적값(prefix sum) 두 행의 차이
+ * - 이미 반영된 경기는 다시 반영하지 않음 (puuid + matchId 기준)
+ */
+@Service
+public class PlayerStatsAggregator {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final PlayerStatsRepository statsRepository;
+    private final PlayerMatchLogRepository matchLogRepository;
+    private final GameDataRegistry gameData;
+    private final TransactionTemplate transactionTemplate;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public PlayerStatsAggregator(PlayerStatsRepository statsRepository,
+                                 PlayerMatchLogRepository matchLogRepository,
+                                 GameDataRegistry gameData,
+                                 PlatformTransactionManager transactionManager) {
+        this.statsRepository = statsRepository;
+        this.matchLogRepository = matchLogRepository;
+        this.gameData = gameData;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 경기들을 이 플레이어 통계에 반영 (이미 반영된 경기는 건너뜀)
+     *
+     * 같은 플레이어에 대한 반영은 순번(seq)이 꼬이지 않도록 한 번에 하나씩만 진행
+     */
+    public void ingest(String puuid, List<MatchSummary> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        synchronized (locks[Math.floorMod(puuid.hashCode(), LOCK_STRIPES)]) {
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<String> ingested = new HashSet<>(matchLogRepository.findIngestedMatchIds(
+                        puuid, matches.stream().map(MatchSummary::getMatchId).toList()));
+                matches.stream()
+                        .filter(match -> !ingested.contains(match.getMatchId()))
+                        .sorted(Comparator.comparingLong(MatchSummary::getGameCreation))
+                        .forEach(match -> match.findParticipant(puuid)
+                                .ifPresent(player -> ingestOne(puuid, match, player)));
+            });
+        }
+    }
+
+    /**
+     * 전체 통계
+     */
+    public MatchStatsResponse overallStats(String puuid) {
+        return scopeStats(puuid, StatsScope.OVERALL, 0);
+    }
+
+    /**
+     * 큐별 통계 (예: 420 솔로랭크)
+     */
+    public MatchStatsResponse queueStats(String puuid, int queueId) {
+        return scopeStats(puuid, StatsScope.QUEUE, queueId);
+    }
+
+    /**
+     * 시즌(연도) 통계
+     */
+    public MatchStatsResponse seasonStats(String puuid, int season) {
+        PlayerStatsEntity stats = statsRepository
+                .findByPuuidAndScopeAndScopeKey(puuid, StatsScope.SEASON, season).orElse(null);
+        if (stats == null) {
+            return MatchStatsCalculator.fromTotals(0, 0, 0, 0, 0, null);
+        }
+        long from = ZonedDateTime.of(season, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli();
+        long to = ZonedDateTime.of(season + 1, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli();
+        return toResponse(stats, topChampion(matchLogRepository.countChampionsBetween(puuid, from, to)));
+    }
+
+    /**
+     * 최근 lastN경기 통계 - 누적값 두 행의 차이로 계산
+     */
+    public MatchStatsResponse recentStats(String puuid, int lastN) {
+        PlayerMatchLogEntity newest = matchLogRepository.findTopByPuuidOrderBySeqDesc(puuid).orElse(null);
+        if (newest == null || lastN <= 0) {
+            return MatchStatsCalculator.fromTotals(0, 0, 0, 0, 0, null);
+        }
+        long baseSeq = Math.max(0, newest.getSeq() - lastN);
+        PlayerMatchLogEntity base = baseSeq == 0 ? null
+                : matchLogRepository.findByPuuidAndSeq(puuid, baseSeq).orElse(null);
+
+        int games = (int) (newest.getSeq() - baseSeq);
+        long wins = newest.getCumWins() - (base == null ? 0 : base.getCumWins());
+        long kills = newest.getCumKills() - (base == null ? 0 : base.getCumKills());
+        long deaths = newest.getCumDeaths() - (base == null ? 0 : base.getCumDeaths());
+        long assists = newest.getCumAssists() - (base == null ? 0 : base.getCumAssists());
+
+        String mostPlayed = topChampion(matchLogRepository.countChampionsAfterSeq(puuid, baseSeq));
+        return MatchStatsCalculator.fromTotals(games, (int) wins, (int) kills, (int) deaths, (int) assists, mostPlayed);
+    }
+
+    private MatchStatsResponse scopeStats(String puuid, StatsScope scope, int scopeKey) {
+        PlayerStatsEntity stats = statsRepository.findByPuuidAndScopeAndScopeKey(puuid, scope, scopeKey).orElse(null);
+        if (stats == null) {
+            return MatchStatsCalculator.fromTotals(0, 0, 0, 0, 0, null);
+        }
+        String mostPlayed = scope == StatsScope.OVERALL
+                ? statsRepository.findByPuuidAndScope(puuid, StatsScope.CHAMPION).stream()
+                        .max(Comparator.comparingInt(PlayerStatsEntity::getGames))
+                        .map(champion -> gameData.championName(champion.getScopeKey()))
+                        .orElse(null)
+                : null;
+        return toResponse(stats, mostPlayed);
+    }
+
+    private void ingestOne(String puuid, MatchSummary match, ParticipantStats player) {
+        boolean win = player.isWin();
+        int kills = player.getKills();
+        int deaths = player.getDeaths();
+        int assists = player.getAssists();
+
+        // 1. 구분별 합계 - 행 4개만 갱신
+        addTo(puuid, StatsScope.OVERALL, 0, win, kills, deaths, assists);
+        addTo(puuid, StatsScope.QUEUE, match.getQueueId(), win, kills, deaths, assists);
+        addTo(puuid, StatsScope.CHAMPION, player.getChampionId(), win, kills, deaths, assists);
+        addTo(puuid, StatsScope.SEASON, seasonOf(match.getGameCreation()), win, kills, deaths, assists);
+
+        // 2. 경기 기록 + 누적값 - 보통은 최신 경기라 맨 뒤에 붙이고,
+        //    과거 경기(페이징으로 뒤늦게 받은 경기)면 이후 기록의 순번/누적값을 한 번에 밀어줌
+        PlayerMatchLogEntity previous = matchLogRepository
+                .findTopByPuuidAndGameCreationLessThanOrderBySeqDesc(puuid, match.getGameCreation())
+                .orElse(null);
+        matchLogRepository.shiftAfter(puuid, match.getGameCreation(), win ? 1 : 0, kills, deaths, assists);
+
+        matchLogRepository.save(PlayerMatchLogEntity.builder()
+                .puuid(puuid)
+                .matchId(match.getMatchId())
+                .seq(previous == null ? 1 : previous.getSeq() + 1)
+                .gameCreation(match.getGameCreation())
+                .championId(player.getChampionId())
+                .queueId(match.getQueueId())
+                .win(win)
+                .kills(kills)
+                .deaths(deaths)
+                .assists(assists)
+                .cumWins((previous == null ? 0 : previous.getCumWins()) + (win ? 1 : 0))
+                .cumKills((previous == null ? 0 : previous.getCumKills()) + kills)
+                .cumDeaths((previous == null ? 0 : previous.getCumDeaths()) + deaths)
+                .cumAssists((previous == null ? 0 : previous.getCumAssists()) + assists)
+                .build());
+    }
+
+    private void addTo(String puuid, StatsScope scope, int scopeKey,
+                       boolean win, int kills, int deaths, int assists) {
+        PlayerStatsEntity stats = statsRepository.findByPuuidAndScopeAndScopeKey(puuid, scope, scopeKey)
+                .orElseGet(() -> PlayerStatsEntity.create(puuid, scope, scopeKey));
+        stats.add(win, kills, deaths, assists);
+        statsRepository.save(stats);
+    }
+
+    private MatchStatsResponse toResponse(PlayerStatsEntity stats, String mostPlayedChampion) {
+        return MatchStatsCalculator.fromTotals(stats.getGames(), stats.getWins(),
+                stats.getKills(), stats.getDeaths(), stats.getAssists(), mostPlayedChampion);
+    }
+
+    private String topChampion(List<Object[]> championCounts) {
+        return championCounts.isEmpty() ? null
+                : gameData.championName(((Number) championCounts.get(0)[0]).intValue());
+    }
+
+    static int seasonOf(long gameCreation) {
+        return Instant.ofEpochMilli(gameCreation).atZone(ZoneOffset.UTC).getYear();
+    }
+}
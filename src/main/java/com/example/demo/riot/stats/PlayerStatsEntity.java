@@ -0,0 +1,66 @@
+package com.example.demo.riot.stats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 플레이어 누적 통계 (전체 / 큐별 / 챔피언별 / 시즌별)
+ * 
+ * 경기가 들어올 때마다 해당 행들의 합계만 더하므로 조회 시 경기를 다시 훑지 않는다.
+ */
+@Entity
+@Table(name = "player_stats",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"puuid", "scope", "scope_key"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PlayerStatsEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "player_stats_id")
+    private Long playerStatsId;
+
+    @Column(name = "puuid", nullable = false, length = 100)
+    private String puuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false, length = 20)
+    private StatsScope scope;
+
+    @Column(name = "scope_key", nullable = false)
+    private int scopeKey;
+
+    @Column(name = "games", nullable = false)
+    private int games;
+
+    @Column(name = "wins", nullable = false)
+    private int wins;
+
+    @Column(name = "kills", nullable = false)
+    private int kills;
+
+    @Column(name = "deaths", nullable = false)
+    private int deaths;
+
+    @Column(name = "assists", nullable = false)
+    private int assists;
+
+    public void add(boolean win, int kills, int deaths, int assists) {
+        this.games++;
+        this.wins += win ? 1 : 0;
+        this.kills += kills;
+        this.deaths += deaths;
+        this.assists += assists;
+    }
+
+    // 정적 팩토리 메서드
+    public static PlayerStatsEntity create(String puuid, StatsScope scope, int scopeKey) {
+        return PlayerStatsEntity.builder()
+                .puuid(puuid)
+                .scope(scope)
+                .scopeKey(scopeKey)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.riot.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PlayerStatsRepository extends JpaRepository<PlayerStatsEntity, Long> {
+
+    // 1. 특정 구분의 누적 통계 (예: 솔로랭크 420)
+    Optional<PlayerStatsEntity> findByPuuidAndScopeAndScopeKey(String puuid, StatsScope scope, int scopeKey);
+
+    // 2. 구분 전체 (예: 챔피언별 누적 통계 → 주력 챔피언)
+    List<PlayerStatsEntity> findByPuuidAndScope(String puuid, StatsScope scope);
+}
@@ -0,0 +1,15 @@
+package com.example.demo.riot.stats;
+
+/**
+ * 플레이어 누적 통계 구분
+ * - OVERALL: 전체 (scopeKey = 0)
+ * - QUEUE: 큐별 (scopeKey = queueId)
+ * - CHAMPION: 챔피언별 (scopeKey = championId)
+ * - SEASON: 시즌(연도)별 (scopeKey = 연도)
+ */
+public enum StatsScope {
+    OVERALL,
+    QUEUE,
+    CHAMPION,
+    SEASON
+}
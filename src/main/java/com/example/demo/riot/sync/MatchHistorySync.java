@@ -0,0 +1,92 @@
+package com.example.demo.riot.sync;
+
+import com.example.demo.riot.RiotRegion;
+import com.example.demo.riot.cache.TtlCache;
+import com.example.demo.riot.index.ParticipantIndex;
+import com.example.demo.riot.parser.MatchSummary;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 🔄 플레이어별 경기 ID 증분 동기화 상태
+ *
+ * 한 번 받은 경기 ID 목록(최신 먼저)을 기억해 두고, 다음 조회 때는
+ * 가장 최근 경기 시작 시각 이후(startTime)의 ID만 Riot에 요청해서 앞에 붙인다.
+ *
+ * 예) 지난 방문 이후 1판 더 한 플레이어: ID 목록 1회 + 새 경기 상세 1회 = Riot 2회
+ *
+ * 같은 puuid라도 지역마다 경기 목록이 다르므로 region:puuid 단위로 보관
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchHistorySync {
+
+    private final ParticipantIndex participantIndex;
+
+    @Value("${riot.sync.max-history:100}")
+    private int maxHistory;
+
+    @Value("${riot.sync.max-players:50000}")
+    private int maxPlayers;
+
+    @Value("${riot.sync.ttl-hours:168}")
+    private long ttlHours;
+
+    private TtlCache<String, List<String>> histories; // region:puuid → 경기 ID (최신 먼저)
+
+    @PostConstruct
+    void init() {
+        histories = new TtlCache<>(maxPlayers, ttlHours * 3600_000L);
+    }
+
+    /**
+     * 증분 조회에 쓸 startTime (epoch 초)
+     * 보관 목록이 count보다 짧거나 최신 경기 시각을 모르면 empty → 전체 조회 필요
+     */
+    public Optional<Long> startTimeFor(RiotRegion region, String puuid, int count) {
+        List<String> known = histories.get(key(region, puuid));
+        if (known == null || known.size() < count) {
+            return Optional.empty();
+        }
+        return participantIndex.getMatch(known.get(0))
+                .map(MatchSummary::getGameCreation)
+                .map(millis -> millis / 1000L);
+    }
+
+    /**
+     * 전체 조회 결과로 보관 목록 교체
+     */
+    public void replace(RiotRegion region, String puuid, List<String> matchIds) {
+        List<String> trimmed = new ArrayList<>(matchIds.subList(0, Math.min(matchIds.size(), maxHistory)));
+        histories.put(key(region, puuid), List.copyOf(trimmed));
+    }
+
+    /**
+     * startTime 이후 경기 ID를 보관 목록 앞에 합치고 최근 count개 반환
+     * 새 ID가 요청 개수만큼 꽉 찼다면 중간이 비었을 수 있으므로 새 목록으로 교체
+     */
+    public List<String> merge(RiotRegion region, String puuid, List<String> newerMatchIds, int count) {
+        List<String> known = histories.get(key(region, puuid));
+        if (known == null || newerMatchIds.size() >= count) {
+            replace(region, puuid, newerMatchIds);
+            return newerMatchIds;
+        }
+        Set<String> merged = new LinkedHashSet<>(newerMatchIds);
+        merged.addAll(known);
+        List<String> result = new ArrayList<>(merged);
+        replace(region, puuid, result);
+        return List.copyOf(result.subList(0, Math.min(count, result.size())));
+    }
+
+    private static String key(RiotRegion region, String puuid) {
+        return region.getTag() + ":" + puuid;
+    }
+}
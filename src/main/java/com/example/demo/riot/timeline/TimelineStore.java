@@ -0,0 +1,214 @@
+package com.example.demo.riot.timeline;
+
+import com.example.demo.riot.parser.MatchTimeline;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * ⏱️ 타임라인 곡선 저장소
+ *
+ * 타임라인 원본(수백 KB~수 MB)은 보관하지 않고 곡선만 압축 인코딩(MatchTimeline.writeTo)해서 보관한다.
+ * 경기당 수 KB라 전부 메모리에 두고, 파일은 재시작 복원용 추가 전용 로그.
+ *
+ * 저장 형식 (timelines.dat):
+ *   [magic int][matchId 길이 short][matchId UTF-8][곡선 길이 int][CRC32 int][곡선]
+ *
+ * - 복구: 길이/CRC가 맞지 않는 레코드(쓰다 만 꼬리)부터 잘라냄
+ */
+@Component
+@Slf4j
+public class TimelineStore {
+
+    private static final int MAGIC = 0x544C494E; // "TLIN"
+    private static final int HEADER_FIXED_BYTES = 4 + 2 + 4 + 4;
+
+    @Value("${riot.timeline.enabled:true}")
+    private boolean enabled;
+
+    @Value("${riot.timeline.dir:./data/timelines}")
+    private String directory;
+
+    private final Map<String, byte[]> timelines = new ConcurrentHashMap<>();
+    private FileChannel channel;
+
+    public TimelineStore(MeterRegistry meterRegistry) {
+        Gauge.builder("riot.timeline.stored", timelines, Map::size)
+                .description("곡선을 보관 중인 경기 수")
+                .register(meterRegistry);
+        Gauge.builder("riot.timeline.memory.bytes", this, TimelineStore::memoryBytes)
+                .description("보관 중인 곡선 인코딩 크기 합계")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 로그 파일을 읽어서 복원 (깨진 꼬리는 잘라냄)
+     */
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Path dir = Paths.get(directory);
+        Files.createDirectories(dir);
+        channel = FileChannel.open(dir.resolve("timelines.dat"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        long valid = recover();
+        if (valid < channel.size()) {
+            log.warn("타임라인 저장소 손상 레코드 발견 - 잘라냄: @{} (파일 크기 {})", valid, channel.size());
+            channel.truncate(valid);
+        }
+        log.info("타임라인 저장소 로드 완료: {}경기", timelines.size());
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("타임라인 저장소 닫기 실패: {}", e.getMessage());
+        }
+        channel = null;
+    }
+
+    public Optional<MatchTimeline> get(String matchId) {
+        byte[] encoded = timelines.get(matchId);
+        if (encoded == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(MatchTimeline.readFrom(new DataInputStream(new ByteArrayInputStream(encoded)), matchId));
+        } catch (IOException e) {
+            log.warn("타임라인 곡선 해석 실패 - 원격 조회로 대체: matchId={}, 원인={}", matchId, e.getMessage());
+            timelines.remove(matchId);
+            return Optional.empty();
+        }
+    }
+
+    public boolean contains(String matchId) {
+        return timelines.containsKey(matchId);
+    }
+
+    /**
+     * 곡선 보관 (이미 있으면 무시)
+     */
+    public void put(MatchTimeline timeline) {
+        if (timelines.containsKey(timeline.getMatchId())) {
+            return;
+        }
+        byte[] encoded = encode(timeline);
+        timelines.putIfAbsent(timeline.getMatchId(), encoded);
+        if (enabled) {
+            append(timeline.getMatchId(), encoded);
+        }
+    }
+
+    public long memoryBytes() {
+        long total = 0;
+        for (byte[] encoded : timelines.values()) {
+            total += encoded.length;
+        }
+        return total;
+    }
+
+    private synchronized void append(String matchId, byte[] encoded) {
+        if (channel == null) {
+            return;
+        }
+        byte[] id = matchId.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(encoded);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_FIXED_BYTES + id.length + encoded.length);
+        record.putInt(MAGIC)
+                .putShort((short) id.length)
+                .put(id)
+                .putInt(encoded.length)
+                .putInt((int) crc.getValue())
+                .put(encoded)
+                .flip();
+        try {
+            long position = channel.size();
+            while (record.hasRemaining()) {
+                channel.write(record, position + record.position());
+            }
+        } catch (IOException e) {
+            log.warn("타임라인 저장 실패: matchId={}, 원인={}", matchId, e.getMessage());
+        }
+    }
+
+    /**
+     * 레코드를 처음부터 읽으며 메모리에 올리고, 마지막 온전한 레코드 끝 위치 반환
+     */
+    private long recover() throws IOException {
+        long position = 0;
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel.position(0))));
+        try {
+            while (true) {
+                if (in.readInt() != MAGIC) {
+                    return position;
+                }
+                int idLength = in.readShort();
+                if (idLength <= 0) {
+                    return position;
+                }
+                byte[] id = new byte[idLength];
+                in.readFully(id);
+                int length = in.readInt();
+                int crcValue = in.readInt();
+                if (length < 0 || length > channel.size()) {
+                    return position;
+                }
+                byte[] encoded = new byte[length];
+                in.readFully(encoded);
+                CRC32 crc = new CRC32();
+                crc.update(encoded);
+                if ((int) crc.getValue() != crcValue) {
+                    return position;
+                }
+                timelines.put(new String(id, StandardCharsets.UTF_8), encoded);
+                position += HEADER_FIXED_BYTES + idLength + length;
+            }
+        } catch (EOFException e) {
+            return position;
+        }
+    }
+
+    private static byte[] encode(MatchTimeline timeline) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(2048);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            timeline.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
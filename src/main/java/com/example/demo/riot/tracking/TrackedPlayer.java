@@ -0,0 +1,52 @@
+package com.example.demo.riot.tracking;
+
+import com.example.demo.riot.RiotRegion;
+import com.example.demo.riot.dto.PlayerMatchHistoryResponse;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추적 중인 플레이어 한 명 - 요청 빈도와 마지막으로 만들어 둔 전적
+ */
+@Getter
+public class TrackedPlayer {
+
+    private final String key;
+    private final String gameName;
+    private final String tagLine;
+    private final RiotRegion region;
+    private final AtomicLong requestCount = new AtomicLong();
+    private volatile int count;
+    private volatile long lastRequestedAt;
+    private volatile long refreshedAt;
+    private volatile PlayerMatchHistoryResponse history;
+    private volatile int historyCount; // history를 만들 때 요청한 경기 수
+
+    TrackedPlayer(String key, String gameName, String tagLine, RiotRegion region) {
+        this.key = key;
+        this.gameName = gameName;
+        this.tagLine = tagLine;
+        this.region = region;
+    }
+
+    void recordRequest(int requestedCount, long now) {
+        requestCount.incrementAndGet();
+        count = Math.max(count, requestedCount);
+        lastRequestedAt = now;
+    }
+
+    public void update(PlayerMatchHistoryResponse history, int historyCount, long now) {
+        this.historyCount = historyCount;
+        this.history = history;
+        this.refreshedAt = now;
+    }
+
+    /**
+     * 갱신 우선순위 - 오래됐을수록, 자주 찾을수록 높음
+     */
+    double priority(long now) {
+        double staleSeconds = (now - refreshedAt) / 1000.0;
+        return staleSeconds * (1.0 + Math.log1p(requestCount.get()));
+    }
+}
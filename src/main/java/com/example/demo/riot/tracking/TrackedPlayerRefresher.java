@@ -0,0 +1,72 @@
+package com.example.demo.riot.tracking;
+
+import com.example.demo.riot.RiotApiService;
+import com.example.demo.riot.RiotRegion;
+import com.example.demo.riot.ratelimit.RiotBackgroundCalls;
+import com.example.demo.riot.ratelimit.RiotRateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * ⏱️ 추적 플레이어 백그라운드 갱신
+ *
+ * 주기마다 오래되고 자주 찾는 플레이어부터 전적을 미리 갱신한다.
+ * 갱신 호출은 백그라운드로 표시되어 지역별 백그라운드 버킷(앱 한도 x riot.tracking.budget-share)에 따로 세어진다.
+ * 한 명 갱신의 최대 호출 수(계정 + 경기 ID + 경기 상세 count개)가 버킷에 남아 있을 때만 시작하므로
+ * 백그라운드 호출은 어느 윈도우에서도 그 몫을 넘지 않는다 (429 재시도로 넘친 만큼은 그 윈도우의 남은 몫에서 빠짐).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrackedPlayerRefresher {
+
+    private final TrackedPlayerRegistry registry;
+    private final RiotApiService riotApiService;
+    private final RiotRateLimiter rateLimiter;
+
+    @Value("${riot.tracking.enabled:true}")
+    private boolean enabled;
+
+    @Value("${riot.tracking.batch-size:10}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${riot.tracking.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        int refreshed = 0;
+        for (TrackedPlayer player : registry.mostUrgent(batchSize)) {
+            if (!hasBackgroundBudget(player)) {
+                log.debug("추적 갱신 건너뜀 - 백그라운드 호출 몫 부족 (region={})", player.getRegion().getTag());
+                continue;
+            }
+            try {
+                RiotBackgroundCalls.run(() -> riotApiService.refreshTrackedPlayer(player));
+                refreshed++;
+            } catch (RuntimeException e) {
+                log.warn("추적 플레이어 갱신 실패: {}#{} ({})", player.getGameName(), player.getTagLine(), e.getMessage());
+            }
+        }
+        if (refreshed > 0) {
+            log.info("추적 플레이어 {}명 백그라운드 갱신", refreshed);
+        }
+    }
+
+    /**
+     * 최대 호출 수만큼 몫이 남았는지 - 경기 ID + 상세는 플레이어 지역, 계정은 account-v1 지역(SEA → ASIA)
+     */
+    private boolean hasBackgroundBudget(TrackedPlayer player) {
+        RiotRegion region = player.getRegion();
+        RiotRegion accountRegion = region.accountRegion();
+        int matchCalls = player.getCount() + 1;
+        if (accountRegion == region) {
+            return rateLimiter.backgroundRemaining(region) >= matchCalls + 1;
+        }
+        return rateLimiter.backgroundRemaining(region) >= matchCalls
+                && rateLimiter.backgroundRemaining(accountRegion) >= 1;
+    }
+}
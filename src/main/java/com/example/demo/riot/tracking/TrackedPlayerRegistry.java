@@ -0,0 +1,85 @@
+package com.example.demo.riot.tracking;
+
+import com.example.demo.riot.RiotRegion;
+import com.example.demo.riot.cache.AccountCache;
+import com.example.demo.riot.dto.PlayerMatchHistoryResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 📌 추적 플레이어 레지스트리
+ *
+ * 전적 조회가 들어온 플레이어를 자동으로 등록하고, 백그라운드 갱신 결과를 보관한다.
+ * 정원이 차면 가장 오래 찾지 않은 플레이어를 내보낸다.
+ */
+@Component
+public class TrackedPlayerRegistry {
+
+    private final Map<String, TrackedPlayer> players = new ConcurrentHashMap<>();
+
+    @Value("${riot.tracking.max-players:500}")
+    private int maxPlayers;
+
+    @Value("${riot.tracking.serve-max-age-seconds:600}")
+    private long serveMaxAgeSeconds;
+
+    @Value("${riot.tracking.idle-hours:24}")
+    private long idleHours;
+
+    public TrackedPlayerRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("riot.tracking.players", players, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 조회 요청 기록 (없으면 등록, 같은 Riot ID라도 지역이 다르면 따로 추적)
+     */
+    public TrackedPlayer recordRequest(String gameName, String tagLine, RiotRegion region, int count) {
+        long now = System.currentTimeMillis();
+        String key = region.getTag() + ":" + AccountCache.key(gameName, tagLine);
+        TrackedPlayer player = players.computeIfAbsent(key, k -> new TrackedPlayer(k, gameName, tagLine, region));
+        player.recordRequest(count, now);
+        if (players.size() > maxPlayers) {
+            evictLeastRecent();
+        }
+        return player;
+    }
+
+    /**
+     * 충분히 최신인 보관 전적 (요청 경기 수 이상으로 만든 전적만 - 요청 기록의 count는 이미 올라가 있음)
+     */
+    public Optional<PlayerMatchHistoryResponse> freshHistory(TrackedPlayer player, int count) {
+        PlayerMatchHistoryResponse history = player.getHistory();
+        long age = System.currentTimeMillis() - player.getRefreshedAt();
+        if (history == null || age > serveMaxAgeSeconds * 1000L || player.getHistoryCount() < count) {
+            return Optional.empty();
+        }
+        return Optional.of(history);
+    }
+
+    /**
+     * 갱신 우선순위 상위 limit명 (오래 찾지 않은 플레이어는 정리)
+     */
+    public List<TrackedPlayer> mostUrgent(int limit) {
+        long now = System.currentTimeMillis();
+        long idleCutoff = now - idleHours * 3600_000L;
+        players.values().removeIf(player -> player.getLastRequestedAt() < idleCutoff);
+        return players.values().stream()
+                .sorted(Comparator.comparingDouble((TrackedPlayer player) -> player.priority(now)).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private void evictLeastRecent() {
+        players.values().stream()
+                .min(Comparator.comparingLong(TrackedPlayer::getLastRequestedAt))
+                .ifPresent(player -> players.remove(player.getKey(), player));
+    }
+}
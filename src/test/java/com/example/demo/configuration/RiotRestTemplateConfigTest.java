@@ -0,0 +1,99 @@
+package com.example.demo.configuration;
+
+import com.example.demo.riot.RiotRegionRouting;
+import com.example.demo.riot.metrics.RiotClientMetricsInterceptor;
+import com.example.demo.riot.ratelimit.RiotRateLimitInterceptor;
+import com.example.demo.riot.ratelimit.RiotRateLimiter;
+import com.example.demo.riot.resilience.RiotBulkheadInterceptor;
+import com.example.demo.riot.resilience.RiotCircuitBreakerInterceptor;
+import com.example.demo.riot.resilience.RiotCircuitBreakers;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * riotRestTemplate 조립 확인 - 429 재시도도 시도마다 요청 팩토리 안쪽(서킷 기록, 지표)을 거치는지
+ */
+class RiotRestTemplateConfigTest {
+
+    private static final String MATCH_URL = "https://asia.api.riotgames.com/lol/match/v5/matches/KR_1?api_key=test";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RiotRegionRouting routing = new RiotRegionRouting("asia", "https://{region}.api.riotgames.com");
+    private final RiotCircuitBreakers circuitBreakers =
+            new RiotCircuitBreakers(meterRegistry, 50, 20, 50, 80, 3000, 30, 3, 32, 200);
+    private final Deque<ClientHttpResponse> responses = new ArrayDeque<>();
+    private int attempts;
+    private int breakerCalls;
+
+    @Test
+    void retryAfter429PassesThroughTheCircuitBreaker() {
+        responses.add(response(HttpStatus.TOO_MANY_REQUESTS, ""));
+        responses.add(response(HttpStatus.OK, "ok"));
+
+        String body = riotRestTemplate().getForObject(MATCH_URL, String.class);
+
+        assertThat(body).isEqualTo("ok");
+        assertThat(attempts).isEqualTo(2);
+        assertThat(breakerCalls).isEqualTo(2);
+        // 429는 한도 문제라 서킷에 기록하지 않고, 재시도한 200만 기록
+        assertThat(recordedCalls("match-v5-detail")).isEqualTo(1);
+        // 지표도 시도마다 - 429 한 번, 200 한 번
+        assertThat(meterRegistry.get("riot.client.requests").tag("status", "429").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("riot.client.requests").tag("status", "200").timer().count()).isEqualTo(1);
+    }
+
+    private RestTemplate riotRestTemplate() {
+        RiotRateLimitInterceptor rateLimitInterceptor =
+                new RiotRateLimitInterceptor(new RiotRateLimiter(meterRegistry, "20:1,100:120", "2000:10", 0.3), routing);
+        ReflectionTestUtils.setField(rateLimitInterceptor, "maxRetries", 2);
+        return new RiotRestTemplateConfig().riotRestTemplate(
+                (uri, method) -> {
+                    attempts++;
+                    MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+                    request.setResponse(responses.poll());
+                    return request;
+                },
+                new RiotBulkheadInterceptor(circuitBreakers, routing),
+                rateLimitInterceptor,
+                new RiotCircuitBreakerInterceptor(circuitBreakers, routing) {
+                    @Override
+                    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                                        ClientHttpRequestExecution execution) throws IOException {
+                        breakerCalls++;
+                        return super.intercept(request, body, execution);
+                    }
+                },
+                new RiotClientMetricsInterceptor(meterRegistry, routing));
+    }
+
+    @SuppressWarnings("unchecked")
+    private int recordedCalls(String route) {
+        Map<String, Object> region = (Map<String, Object>) circuitBreakers.snapshot().get("asia");
+        Map<String, Object> circuits = (Map<String, Object>) region.get("circuits");
+        return (int) ((Map<String, Object>) circuits.get(route)).get("recordedCalls");
+    }
+
+    private static ClientHttpResponse response(HttpStatus status, String body) {
+        MockClientHttpResponse response = new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), status);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, "0");
+        return response;
+    }
+}
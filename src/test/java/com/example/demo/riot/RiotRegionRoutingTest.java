@@ -0,0 +1,45 @@
+package com.example.demo.riot;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 요청 파라미터 / 경기 ID / 호출 URL → 지역 결정 확인
+ */
+class RiotRegionRoutingTest {
+
+    private final RiotRegionRouting routing =
+            new RiotRegionRouting("asia", "https://{region}.api.riotgames.com");
+
+    @Test
+    void resolvesRegionOrPlatformNames() {
+        assertThat(routing.resolve(null)).isEqualTo(RiotRegion.ASIA);
+        assertThat(routing.resolve("europe")).isEqualTo(RiotRegion.EUROPE);
+        assertThat(routing.resolve("EUW1")).isEqualTo(RiotRegion.EUROPE);
+        assertThat(routing.resolve("na1")).isEqualTo(RiotRegion.AMERICAS);
+        assertThat(routing.resolve("vn2")).isEqualTo(RiotRegion.SEA);
+        assertThatThrownBy(() -> routing.resolve("mars")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void routesMatchesByPlatformPrefix() {
+        assertThat(routing.forMatch("KR_7000000000")).isEqualTo(RiotRegion.ASIA);
+        assertThat(routing.forMatch("EUW1_6800000000")).isEqualTo(RiotRegion.EUROPE);
+        assertThat(routing.forMatch("OC1_600000000")).isEqualTo(RiotRegion.SEA);
+        assertThat(routing.forMatch("unknown")).isEqualTo(RiotRegion.ASIA);
+    }
+
+    @Test
+    void buildsUrlAndReadsRegionBackFromHost() {
+        String url = routing.url(RiotRegion.SEA.accountRegion(), "/riot/account/v1/accounts/by-riot-id/%s/%s", "a", "b");
+        assertThat(url).isEqualTo("https://asia.api.riotgames.com/riot/account/v1/accounts/by-riot-id/a/b");
+        assertThat(routing.regionOf(URI.create("https://europe.api.riotgames.com/lol/match/v5/matches/EUW1_1")))
+                .isEqualTo(RiotRegion.EUROPE);
+        assertThat(routing.regionOf(URI.create("http://127.0.0.1:18080/lol/match/v5/matches/KR_1")))
+                .isEqualTo(RiotRegion.ASIA);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.riot.analytics;
+
+import com.example.demo.riot.archive.MatchArchive;
+import com.example.demo.riot.parser.MatchPayloadParser;
+import com.example.demo.riot.parser.MatchSummary;
+import com.example.demo.riot.parser.ParticipantStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * fork-join 증분 집계 결과가 경기 목록을 직접 센 결과와 같은지 확인 (참가자 100만 행)
+ */
+class ChampionAnalyticsTest {
+
+    private static final int MATCH_COUNT = 100_000;
+    private static final int[] QUEUES = {420, 440, 450, 400};
+
+    private final List<MatchSummary> matches = new ArrayList<>(MATCH_COUNT);
+    private ChampionAnalytics analytics;
+
+    @BeforeEach
+    void setUp() {
+        analytics = new ChampionAnalytics(new SimpleMeterRegistry(), new MatchArchive(),
+                new MatchPayloadParser(new ObjectMapper()), 0);
+        Random random = new Random(11);
+        for (int m = 0; m < MATCH_COUNT; m++) {
+            MatchSummary match = new MatchSummary();
+            match.setMatchId("KR_" + (6000000000L + m));
+            match.setQueueId(QUEUES[random.nextInt(QUEUES.length)]);
+            boolean blueWins = random.nextBoolean();
+            for (int p = 0; p < 10; p++) {
+                ParticipantStats player = new ParticipantStats();
+                player.setPuuid("puuid-" + random.nextInt(50_000));
+                player.setChampionId(1 + random.nextInt(170));
+                player.setWin(p < 5 == blueWins);
+                player.setKills(random.nextInt(20));
+                player.setDeaths(random.nextInt(12));
+                player.setAssists(random.nextInt(25));
+                match.getParticipants().add(player);
+            }
+            matches.add(match);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        analytics.close();
+    }
+
+    @Test
+    void incrementalAggregatesMatchDirectCount() {
+        matches.subList(0, MATCH_COUNT / 3).forEach(analytics::record);
+        analytics.aggregates(420, 1); // 앞부분만 먼저 집계 → 이후 조회는 추가분만 집계
+        matches.subList(MATCH_COUNT / 3, MATCH_COUNT).forEach(analytics::record);
+        analytics.record(matches.get(0)); // 같은 경기는 다시 반영하지 않음
+
+        assertThat(analytics.rowCount()).isEqualTo(MATCH_COUNT * 10);
+        assertExpected(420);
+        assertExpected(null);
+    }
+
+    @Test
+    @Tag("load")
+    void millionRowsAggregateWellUnderASecond() {
+        matches.forEach(analytics::record);
+
+        long start = System.nanoTime();
+        ChampionTotals totals = analytics.refresh();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(totals.rows).isEqualTo(MATCH_COUNT * 10);
+        assertThat(elapsedMillis).isLessThan(500);
+    }
+
+    private void assertExpected(Integer queueId) {
+        Map<Integer, long[]> expected = new HashMap<>(); // 챔피언 → [픽, 승, 킬, 데스, 어시]
+        int queueMatches = 0;
+        for (MatchSummary match : matches) {
+            if (queueId != null && match.getQueueId() != queueId) {
+                continue;
+            }
+            queueMatches++;
+            for (ParticipantStats player : match.getParticipants()) {
+                long[] sums = expected.computeIfAbsent(player.getChampionId(), id -> new long[5]);
+                sums[0]++;
+                sums[1] += player.isWin() ? 1 : 0;
+                sums[2] += player.getKills();
+                sums[3] += player.getDeaths();
+                sums[4] += player.getAssists();
+            }
+        }
+
+        List<ChampionAggregate> aggregates = analytics.aggregates(queueId, 1);
+        assertThat(aggregates).hasSize(expected.size());
+        for (ChampionAggregate aggregate : aggregates) {
+            long[] sums = expected.get(aggregate.championId());
+            assertThat(new long[]{aggregate.picks(), aggregate.wins(), aggregate.kills(),
+                    aggregate.deaths(), aggregate.assists()}).containsExactly(sums);
+            assertThat(aggregate.queueMatches()).isEqualTo(queueMatches);
+            assertThat(aggregate.queueId()).isEqualTo(queueId);
+        }
+        assertThat(aggregates.get(0).picks()).isGreaterThanOrEqualTo(aggregates.get(aggregates.size() - 1).picks());
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.demo.riot.columnar;
+
+import com.example.demo.riot.parser.MatchSummary;
+import com.example.demo.riot.parser.ParticipantStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 열 저장소 구간 합계가 경기 목록을 직접 더한 결과와 같은지, 파일로 다시 읽어도 같은지 확인
+ */
+class ColumnarMatchStoreTest {
+
+    private static final String PUUID = "test-puuid";
+    private static final int MATCH_COUNT = 2000;
+    private static final long START_MILLIS =
+            ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli();
+
+    @TempDir
+    Path directory;
+
+    private final List<MatchSummary> matches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        for (int i = 0; i < MATCH_COUNT; i++) {
+            ParticipantStats player = new ParticipantStats();
+            player.setPuuid(PUUID);
+            player.setChampionId(i % 3 == 0 ? 157 : 1 + random.nextInt(900));
+            player.setWin(random.nextBoolean());
+            player.setKills(random.nextInt(20));
+            player.setDeaths(random.nextInt(12));
+            player.setAssists(random.nextInt(25));
+            player.setTotalMinionsKilled(100 + random.nextInt(200));
+            player.setNeutralMinionsKilled(random.nextInt(40));
+            player.setGoldEarned(6000 + random.nextInt(12000));
+            player.setTotalDamageDealtToChampions(5000 + random.nextInt(40000));
+
+            MatchSummary match = new MatchSummary();
+            match.setMatchId("KR_" + (7000000000L + i));
+            match.setGameCreation(START_MILLIS + i * 3_600_000L);
+            match.setGameDuration(900 + random.nextInt(1500));
+            match.setQueueId(i % 4 == 0 ? 440 : 420);
+            match.getParticipants().add(player);
+            matches.add(match);
+        }
+    }
+
+    @Test
+    void windowMatchesDirectSum() {
+        ColumnarMatchStore store = newStore();
+        List<MatchSummary> shuffled = new ArrayList<>(matches);
+        Collections.shuffle(shuffled, new Random(1));
+        store.appendAll(PUUID, shuffled.subList(0, 1000));
+        store.appendAll(PUUID, shuffled); // 절반은 중복 - 무시되어야 함
+
+        assertThat(store.matchCount(PUUID)).isEqualTo(MATCH_COUNT);
+
+        long from = START_MILLIS / 1000 + 300 * 3600L;
+        long to = START_MILLIS / 1000 + 1200 * 3600L;
+        assertWindow(store.window(PUUID, from, to), matches.subList(300, 1200));
+        assertWindow(store.lastN(PUUID, 50), matches.subList(MATCH_COUNT - 50, MATCH_COUNT));
+        assertThat(store.window("unknown", from, to).games()).isZero();
+    }
+
+    @Test
+    void flushedFilesReloadIdentically() throws Exception {
+        ColumnarMatchStore store = newStore();
+        store.appendAll(PUUID, matches);
+        store.flush();
+
+        ColumnarMatchStore reloaded = newStore();
+        assertThat(reloaded.matchCount(PUUID)).isEqualTo(MATCH_COUNT);
+        assertThat(reloaded.window(PUUID, 0, Long.MAX_VALUE)).isEqualTo(store.window(PUUID, 0, Long.MAX_VALUE));
+    }
+
+    private ColumnarMatchStore newStore() {
+        ColumnarMatchStore store = new ColumnarMatchStore(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "directory", directory.toString());
+        try {
+            store.open();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return store;
+    }
+
+    private static void assertWindow(WindowStats stats, List<MatchSummary> expected) {
+        long wins = 0, kills = 0, cs = 0, gold = 0, seconds = 0;
+        for (MatchSummary match : expected) {
+            ParticipantStats player = match.getParticipants().get(0);
+            wins += player.isWin() ? 1 : 0;
+            kills += player.getKills();
+            cs += player.getCs();
+            gold += player.getGoldEarned();
+            seconds += match.getGameDuration();
+        }
+        assertThat(stats.games()).isEqualTo(expected.size());
+        assertThat(stats.wins()).isEqualTo(wins);
+        assertThat(stats.kills()).isEqualTo(kills);
+        assertThat(stats.cs()).isEqualTo(cs);
+        assertThat(stats.gold()).isEqualTo(gold);
+        assertThat(stats.durationSeconds()).isEqualTo(seconds);
+        assertThat(stats.mostPlayedChampionId()).isEqualTo(157);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.demo.riot.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 🧪 match-v5 파싱 비교: Map 트리(예전 경로) vs 토큰 스트림(MatchPayloadParser)
+ *
+ * 같은 스레드에서 한쪽씩 예열 후 반복 실행하고, 호출 1번당 할당 바이트(ThreadMXBean)와 처리량을 출력한다.
+ * 실행: ./gradlew loadTest --tests '*MatchPayloadParserLoadTest*' -Dload.parse-iterations=50000
+ */
+@Tag("load")
+class MatchPayloadParserLoadTest {
+
+    private static final int ITERATIONS = Integer.getInteger("load.parse-iterations", 50_000);
+    private static final String TARGET_PUUID = "standin-puuid-3";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MatchPayloadParser parser = new MatchPayloadParser(objectMapper);
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void streamingParserAllocatesLessThanMapTree() throws Exception {
+        byte[] payload = payload();
+
+        Measurement map = measure("Map 트리 (readValue → 참가자 검색)", () -> mapPath(payload));
+        Measurement stream = measure("토큰 스트림 (MatchPayloadParser)", () -> streamPath(payload));
+
+        System.out.println();
+        System.out.println("==== match-v5 파싱 비교 (응답 " + payload.length + " bytes, " + ITERATIONS + "회) ====");
+        System.out.println(map);
+        System.out.println(stream);
+
+        assertThat(stream.bytesPerOp()).isLessThan(map.bytesPerOp());
+    }
+
+    /**
+     * 예전 getMatchDetail과 같은 방식 - 전체를 Map으로 만든 뒤 대상 참가자 필드를 꺼냄
+     */
+    @SuppressWarnings("unchecked")
+    private int mapPath(byte[] payload) throws IOException {
+        Map<String, Object> response = objectMapper.readValue(payload, Map.class);
+        Map<String, Object> info = (Map<String, Object>) response.get("info");
+        List<Map<String, Object>> participants = (List<Map<String, Object>>) info.get("participants");
+        Map<String, Object> target = participants.stream()
+                .filter(p -> TARGET_PUUID.equals(p.get("puuid")))
+                .findFirst()
+                .orElseThrow();
+        return (Integer) target.get("kills") + (Integer) target.get("deaths") + ((Number) info.get("gameDuration")).intValue();
+    }
+
+    private int streamPath(byte[] payload) throws IOException {
+        MatchSummary match = parser.parse(payload, "KR_1", TARGET_PUUID);
+        ParticipantStats target = match.findParticipant(TARGET_PUUID).orElseThrow();
+        return target.getKills() + target.getDeaths() + (int) match.getGameDuration();
+    }
+
+    private Measurement measure(String name, ParseCall call) throws Exception {
+        long sink = 0;
+        for (int i = 0; i < ITERATIONS / 5; i++) {
+            sink += call.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += call.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        assertThat(sink).isNotZero();
+        return new Measurement(name, allocated / (double) ITERATIONS, ITERATIONS / (elapsed / 1_000_000_000.0));
+    }
+
+    private static byte[] payload() throws IOException {
+        try (InputStream in = MatchPayloadParserLoadTest.class.getResourceAsStream("/riot-standin/match-template.json")) {
+            String template = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            return template.replace("{{matchId}}", "KR_1")
+                    .replace("{{gameCreation}}", "1760000000000")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ParseCall {
+        int run() throws Exception;
+    }
+
+    private record Measurement(String name, double bytesPerOp, double opsPerSecond) {
+
+        @Override
+        public String toString() {
+            return String.format("%-36s %10.0f bytes/op  %10.0f ops/s", name, bytesPerOp, opsPerSecond);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.demo.riot.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대용량 타임라인을 스트리밍으로 읽을 때 힙 사용량이 응답 크기와 무관하게 일정한지 확인
+ *
+ * 픽스처는 메모리에 만들지 않고 읽는 만큼 생성하는 스트림 (약 150MB, 대부분 events)
+ */
+class MatchTimelineParserTest {
+
+    private static final int PARTICIPANTS = 10;
+    private static final int FRAMES = 60;
+    private static final int EVENT_CHUNKS_PER_FRAME = 200;  // 청크당 이벤트 100개
+    private static final long SAMPLE_EVERY_BYTES = 16L * 1024 * 1024;
+    private static final long HEAP_CEILING_BYTES = 24L * 1024 * 1024;
+
+    private final MatchTimelineParser parser = new MatchTimelineParser(new ObjectMapper());
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @Test
+    void largeTimelineIsParsedWithinHeapCeiling() throws Exception {
+        long baseline = usedHeapAfterGc();
+        SyntheticTimelineStream fixture = new SyntheticTimelineStream(this::usedHeapAfterGc);
+
+        MatchTimeline timeline = parser.parse(fixture, "KR_1");
+
+        assertThat(fixture.bytesServed).isGreaterThan(128L * 1024 * 1024);
+        assertThat(fixture.peakHeap - baseline).isLessThan(HEAP_CEILING_BYTES);
+
+        assertThat(timeline.getFrameCount()).isEqualTo(FRAMES);
+        int player = timeline.participantIndex("puuid-3");
+        assertThat(player).isEqualTo(3);
+        int frame = timeline.frameAtMinute(10);
+        assertThat(timeline.csAt(player, frame)).isEqualTo(expectedCs(3, 10));
+        assertThat(timeline.totalGoldAt(player, frame)).isEqualTo(expectedGold(3, 10));
+        assertThat(timeline.xpAt(player, frame)).isEqualTo(expectedXp(3, 10));
+        assertThat(timeline.frameAtMinute(FRAMES - 1)).isEqualTo(-1); // 마지막 프레임 = 종료 시점
+    }
+
+    @Test
+    void curvesSurviveCompactEncoding() throws Exception {
+        MatchTimeline timeline = parser.parse(new SyntheticTimelineStream(null), "KR_2");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        timeline.writeTo(new DataOutputStream(bytes));
+        MatchTimeline decoded = MatchTimeline.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), "KR_2");
+
+        // 곡선 3개 x 참가자 10명 x 60프레임 = 1800개 값 + puuid
+        assertThat(bytes.size()).isLessThan(6 * 1024);
+        assertThat(decoded.getFrameCount()).isEqualTo(FRAMES);
+        for (int p = 0; p < PARTICIPANTS; p++) {
+            for (int f = 0; f < FRAMES; f++) {
+                assertThat(decoded.csAt(p, f)).isEqualTo(timeline.csAt(p, f));
+                assertThat(decoded.totalGoldAt(p, f)).isEqualTo(timeline.totalGoldAt(p, f));
+                assertThat(decoded.xpAt(p, f)).isEqualTo(timeline.xpAt(p, f));
+            }
+        }
+        assertThat(decoded.participantIndex("puuid-9")).isEqualTo(9);
+    }
+
+    private long usedHeapAfterGc() {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static int expectedCs(int participant, int frame) {
+        return frame * 7 + (participant % 2) * frame;
+    }
+
+    private static int expectedGold(int participant, int frame) {
+        return 500 + frame * 400 + participant;
+    }
+
+    private static int expectedXp(int participant, int frame) {
+        return frame * 300 + participant;
+    }
+
+    /**
+     * 타임라인 JSON을 조각 단위로 생성하는 스트림 - 일정 바이트마다 힙 사용량 표본을 기록
+     */
+    private static final class SyntheticTimelineStream extends InputStream {
+
+        private static final byte[] EVENTS_FIRST = events(true);
+        private static final byte[] EVENTS_REST = events(false);
+
+        private final LongSupplier heapSampler;
+        private byte[] piece = new byte[0];
+        private int offset;
+        private int step;   // 0: 머리, 1..: 프레임별 조각, 마지막: 꼬리
+        private boolean finished;
+
+        long bytesServed;
+        long peakHeap;
+        private long nextSample = SAMPLE_EVERY_BYTES;
+
+        SyntheticTimelineStream(LongSupplier heapSampler) {
+            this.heapSampler = heapSampler;
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) {
+            while (offset == piece.length) {
+                if (finished) {
+                    return -1;
+                }
+                piece = nextPiece();
+                offset = 0;
+            }
+            int n = Math.min(len, piece.length - offset);
+            System.arraycopy(piece, offset, buffer, off, n);
+            offset += n;
+            bytesServed += n;
+            if (heapSampler != null && bytesServed >= nextSample) {
+                nextSample += SAMPLE_EVERY_BYTES;
+                peakHeap = Math.max(peakHeap, heapSampler.getAsLong());
+            }
+            return n;
+        }
+
+        /**
+         * 조각 순서: 머리 → (프레임 시작, 이벤트 청크 x N, 프레임 끝) x FRAMES → 꼬리
+         */
+        private byte[] nextPiece() {
+            int perFrame = EVENT_CHUNKS_PER_FRAME + 2;
+            int current = step++;
+            if (current == 0) {
+                StringBuilder head = new StringBuilder("{\"metadata\":{\"dataVersion\":\"2\",\"matchId\":\"KR_1\",\"participants\":[");
+                for (int p = 0; p < PARTICIPANTS; p++) {
+                    head.append(p > 0 ? "," : "").append("\"puuid-").append(p).append('"');
+                }
+                return utf8(head.append("]},\"info\":{\"frameInterval\":60000,\"frames\":["));
+            }
+            int index = current - 1;
+            if (index >= FRAMES * perFrame) {
+                finished = true;
+                return utf8(new StringBuilder("],\"gameId\":1}}"));
+            }
+            int frame = index / perFrame;
+            int part = index % perFrame;
+            if (part == 0) {
+                return utf8(frameHead(frame));
+            }
+            if (part == perFrame - 1) {
+                return utf8(new StringBuilder("],\"timestamp\":").append(frame * 60000L).append('}'));
+            }
+            return part == 1 ? EVENTS_FIRST : EVENTS_REST;
+        }
+
+        private static StringBuilder frameHead(int frame) {
+            StringBuilder head = new StringBuilder(frame > 0 ? "," : "").append("{\"participantFrames\":{");
+            for (int p = 0; p < PARTICIPANTS; p++) {
+                int id = p + 1;
+                head.append(p > 0 ? "," : "").append('"').append(id).append("\":{")
+                        .append("\"championStats\":{\"armor\":30,\"attackDamage\":60},")
+                        .append("\"currentGold\":").append(frame * 13).append(',')
+                        .append("\"jungleMinionsKilled\":").append((p % 2) * frame).append(',')
+                        .append("\"level\":").append(Math.min(18, 1 + frame / 2)).append(',')
+                        .append("\"minionsKilled\":").append(frame * 7).append(',')
+                        .append("\"participantId\":").append(id).append(',')
+                        .append("\"position\":{\"x\":").append(p * 100).append(",\"y\":").append(frame).append("},")
+                        .append("\"totalGold\":").append(expectedGold(p, frame)).append(',')
+                        .append("\"xp\":").append(expectedXp(p, frame)).append('}');
+            }
+            return head.append("},\"events\":[");
+        }
+
+        private static byte[] events(boolean first) {
+            StringBuilder chunk = new StringBuilder();
+            for (int i = 0; i < 100; i++) {
+                chunk.append(first && i == 0 ? "" : ",")
+                        .append("{\"type\":\"ITEM_PURCHASED\",\"participantId\":").append(i % PARTICIPANTS + 1)
+                        .append(",\"itemId\":").append(1000 + i)
+                        .append(",\"timestamp\":").append(100000 + i)
+                        .append(",\"position\":{\"x\":1234,\"y\":5678},\"assistingParticipantIds\":[1,2,3]}");
+            }
+            return utf8(chunk);
+        }
+
+        private static byte[] utf8(CharSequence text) {
+            return text.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.riot.standin;
+
+import java.util.Random;
+
+/**
+ * 로컬 Riot 대역 응답 지연 분포
+ */
+@FunctionalInterface
+public interface LatencyModel {
+
+    long sampleMillis(Random random);
+
+    static LatencyModel none() {
+        return random -> 0L;
+    }
+
+    static LatencyModel fixed(long millis) {
+        return random -> millis;
+    }
+
+    static LatencyModel uniform(long minMillis, long maxMillis) {
+        return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+    }
+
+    /**
+     * 로그정규 분포 - 실제 API 응답 시간처럼 중앙값 근처에 몰리고 긴 꼬리가 있음
+     *
+     * @param medianMillis 중앙값 (p50)
+     * @param sigma        꼬리 두께 (0.5면 p99 ≈ 중앙값 × 3.2)
+     */
+    static LatencyModel logNormal(long medianMillis, double sigma) {
+        return random -> Math.round(medianMillis * Math.exp(sigma * random.nextGaussian()));
+    }
+}
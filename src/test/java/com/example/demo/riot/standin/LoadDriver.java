@@ -0,0 +1,97 @@
+package com.example.demo.riot.standin;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 🧪 부하 발생기: 고정 동시성으로 요청을 보내고 처리량 + 응답 시간 분위수를 집계
+ */
+public class LoadDriver {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    /**
+     * @param concurrency   동시에 진행할 요청 수
+     * @param totalRequests 보낼 요청 수
+     * @param requestFor    i번째 요청 생성
+     */
+    public Result run(String name, int concurrency, int totalRequests, IntFunction<HttpRequest> requestFor)
+            throws InterruptedException {
+        return runTasks(name, concurrency, totalRequests, i -> {
+            HttpResponse<Void> response = client.send(requestFor.apply(i), HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        });
+    }
+
+    /**
+     * 요청 여러 번으로 이루어진 작업(페이지 따라가기 등)을 하나로 재는 버전 - false나 예외면 실패
+     */
+    public Result runTasks(String name, int concurrency, int totalTasks, Task task) throws InterruptedException {
+        long[] latencies = new long[totalTasks];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+
+        long start = System.nanoTime();
+        for (int w = 0; w < concurrency; w++) {
+            workers.execute(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < totalTasks) {
+                    long t0 = System.nanoTime();
+                    try {
+                        if (!task.run(i)) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception | AssertionError e) {
+                        failures.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - t0;
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(name, concurrency, totalTasks, failures.get(), elapsed,
+                percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99));
+    }
+
+    @FunctionalInterface
+    public interface Task {
+        boolean run(int index) throws Exception;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    public record Result(String name, int concurrency, int requests, int failures, long elapsedNanos,
+                         double p50Millis, double p95Millis, double p99Millis) {
+
+        public double throughput() {
+            return requests / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-28s c=%-4d n=%-6d 실패=%-5d %8.1f req/s  p50=%7.1fms  p95=%7.1fms  p99=%7.1fms",
+                    name, concurrency, requests, failures, throughput(), p50Millis, p95Millis, p99Millis);
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.example.demo.riot.standin;
+
+import com.example.demo.riot.RiotApiService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 🧪 오프라인 부하 테스트: 로컬 Riot 대역 + /api/riot 엔드포인트
+ *
+ * 실행: ./gradlew loadTest -Dload.concurrency=64 -Dload.requests=5000 -Dload.latency-median-ms=80
+ *
+ * 설정 (시스템 프로퍼티)
+ * - load.concurrency: 동시 요청 수 (기본 32)
+ * - load.requests: 시나리오별 요청 수 (기본 2000)
+ * - load.latency-median-ms / load.latency-sigma: Riot 대역 응답 지연 (로그정규, 기본 60ms / 0.5)
+ * - load.throttle-rate / load.error-rate: Riot 대역 429 / 503 비율 (기본 0.01 / 0.005)
+ * - load.tomcat-threads: Tomcat 워커 수 (기본 50) - 격리 시나리오는 이보다 훨씬 많은 Riot 조회를 동시에 보냄
+ * - load.paging-players / load.paging-concurrency: 깊은 페이지 조회 시나리오에서 500경기씩 받는 플레이어 수 / 동시에 받는 수 (기본 8 / 1)
+ *
+ * 결과는 시나리오별 처리량, p50/p95/p99와 Riot 대역이 받은 호출 수로 출력된다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class RiotLoadHarnessTest {
+
+    private static final double THROTTLE_RATE = Double.parseDouble(System.getProperty("load.throttle-rate", "0.01"));
+    private static final double ERROR_RATE = Double.parseDouble(System.getProperty("load.error-rate", "0.005"));
+
+    private static final RiotStandIn STAND_IN = RiotStandIn.builder()
+            .latency(LatencyModel.logNormal(
+                    Long.getLong("load.latency-median-ms", 60L),
+                    Double.parseDouble(System.getProperty("load.latency-sigma", "0.5"))))
+            .throttleRate(THROTTLE_RATE)
+            .errorRate(ERROR_RATE)
+            .build()
+            .start();
+
+    // 요청 하나가 Riot 호출 여러 번(계정 + 경기 ID + 상세 N개)으로 이어지고 재시도로도 못 막는 경우가 있어서
+    // 주입한 429/503 비율의 이 배수까지는 실패를 허용
+    private static final double FAILURE_ALLOWANCE = 5.0;
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 32);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 2000);
+
+    @DynamicPropertySource
+    static void riotStandIn(DynamicPropertyRegistry registry) throws IOException {
+        Path dataDir = Files.createTempDirectory("riot-load");
+        registry.add("riot.base-url", STAND_IN::baseUrl);
+        registry.add("riot.api-key", () -> "standin");
+        registry.add("riot.platform-route", () -> "asia");
+        registry.add("riot.archive.dir", () -> dataDir.resolve("match-archive").toString());
+        registry.add("riot.gamedata.dir", () -> dataDir.resolve("gamedata").toString());
+        registry.add("riot.tracking.enabled", () -> "false");
+        registry.add("server.tomcat.threads.max", () -> Integer.getInteger("load.tomcat-threads", 50));
+        registry.add("jwt.secret", () -> "riot-load-harness-secret-key-0123456789abcdef");
+        registry.add("jwt.expiration", () -> "3600000");
+    }
+
+    @AfterAll
+    static void stopStandIn() {
+        STAND_IN.close();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RiotApiService riotApiService;
+
+    @Value("${server.tomcat.threads.max}")
+    private int tomcatThreads;
+
+    private final LoadDriver driver = new LoadDriver();
+    private String token;
+
+    @BeforeEach
+    void login() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        post(client, "/api/auth/signup",
+                "{\"username\":\"load_tester\",\"password\":\"Load!Test123\",\"email\":\"load@test.local\"}");
+        HttpResponse<String> login = post(client, "/api/auth/login",
+                "{\"username\":\"load_tester\",\"password\":\"Load!Test123\"}");
+        JsonNode body = objectMapper.readTree(login.body());
+        token = body.path("data").path("token").asText();
+        assertThat(token).isNotBlank();
+    }
+
+    @Test
+    void riot_엔드포인트_부하() throws Exception {
+        List<LoadDriver.Result> results = new ArrayList<>();
+
+        // 1. 처음 보는 플레이어 위주 (계정/전적 캐시 미스 → Riot 대역 호출)
+        results.add(driver.run("matches (cold players)", CONCURRENCY, REQUESTS,
+                i -> get("/api/riot/player/Player" + (1000 + i) + "/KR1/matches?count=5")));
+
+        // 2. 같은 플레이어 반복 (캐시/아카이브/역인덱스 경로)
+        results.add(driver.run("matches (hot players)", CONCURRENCY, REQUESTS,
+                i -> get("/api/riot/player/Player" + (i % 20) + "/KR1/matches?count=5")));
+
+        // 3. 페이지 조회 (10경기 제한 없는 경로 + 다음 페이지 선조회)
+        results.add(driver.run("matches/page", CONCURRENCY, REQUESTS / 4,
+                i -> get("/api/riot/player/Player" + (i % 50) + "/KR1/matches/page?size=20")));
+
+        // 4. 누적 통계
+        results.add(driver.run("stats", CONCURRENCY, REQUESTS,
+                i -> get("/api/riot/player/Player" + (i % 20) + "/KR1/stats?last=20")));
+
+        // 5. 로비 스카우팅 (참가자 10명 최근 폼 - 계정 조회 없이 경기 목록/상세만)
+        results.add(driver.run("matches/lobby", CONCURRENCY, REQUESTS / 4,
+                i -> get("/api/riot/matches/KR_" + (7_000_000_000L - i % 200) + "/lobby?count=5")));
+
+        System.out.println();
+        System.out.println("==== Riot 부하 테스트 결과 (Riot 대역 지연 p50 "
+                + Long.getLong("load.latency-median-ms", 60L) + "ms) ====");
+        results.forEach(System.out::println);
+        System.out.printf("Riot 대역 호출: 전체 %d (account %d, ids %d, detail %d), 429 %d, 503 %d%n",
+                STAND_IN.getRequests(), STAND_IN.getRequests("account-v1"), STAND_IN.getRequests("match-v5-ids"),
+                STAND_IN.getRequests("match-v5-detail"), STAND_IN.getThrottled(), STAND_IN.getErrors());
+
+        double failureCeiling = (THROTTLE_RATE + ERROR_RATE) * FAILURE_ALLOWANCE;
+        for (LoadDriver.Result result : results) {
+            assertThat(result.failures()).as(result.name())
+                    .isLessThanOrEqualTo((int) Math.ceil(result.requests() * failureCeiling));
+        }
+    }
+
+    /**
+     * Riot 조회가 Tomcat 워커 수의 몇 배로 몰려도 게시판/인증 응답 시간이 평소와 비슷한지 확인
+     * (Riot 조회는 비동기라 워커를 잡지 않음 - 동기였다면 워커가 전부 Riot 응답을 기다리며 막힘)
+     */
+    @Test
+    void riot_조회_포화_중_게시판_인증_격리() throws Exception {
+        int boardRequests = REQUESTS / 4;
+        int loginRequests = REQUESTS / 20;
+
+        LoadDriver.Result boardsIdle = driver.run("boards (idle)", 8, boardRequests, i -> get("/api/boards"));
+        LoadDriver.Result loginIdle = driver.run("auth/login (idle)", 4, loginRequests, i -> loginRequest());
+
+        // Riot 조회를 워커 수의 4배 동시성으로 계속 보내는 동안 측정
+        int riotConcurrency = tomcatThreads * 4;
+        CompletableFuture<LoadDriver.Result> riotLoad = CompletableFuture.supplyAsync(() -> {
+            try {
+                return driver.run("matches (saturating)", riotConcurrency, REQUESTS * 2,
+                        i -> get("/api/riot/player/Player" + (5000 + i) + "/KR1/matches?count=5"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(1000); // Riot 조회가 쌓일 때까지
+
+        RiotCallSampler sampler = RiotCallSampler.start();
+        LoadDriver.Result boardsBusy = driver.run("boards (riot saturated)", 8, boardRequests, i -> get("/api/boards"));
+        LoadDriver.Result loginBusy = driver.run("auth/login (riot saturated)", 4, loginRequests, i -> loginRequest());
+        sampler.stop();
+        boolean riotStillRunning = !riotLoad.isDone();
+        LoadDriver.Result riot = riotLoad.join();
+
+        System.out.println();
+        System.out.println("==== Riot 조회 포화 중 게시판/인증 응답 시간 (Tomcat 워커 " + tomcatThreads
+                + ", Riot 동시 조회 " + riotConcurrency + (riotStillRunning ? "" : ", 측정 전에 Riot 조회 종료") + ") ====");
+        List.of(boardsIdle, boardsBusy, loginIdle, loginBusy, riot).forEach(System.out::println);
+        System.out.println(sampler);
+
+        assertThat(boardsBusy.failures()).isZero();
+        assertThat(loginBusy.failures()).isZero();
+        // 워커 격리 자체는 CPU 수와 무관하게 확인 - 측정 중 Riot 호출은 조회 풀에서 나가고 Tomcat 워커는 하나도 Riot 응답을 기다리지 않음
+        assertThat(sampler.maxPoolThreadsInCall).as("측정 중 Riot 호출이 진행됐는지").isPositive();
+        assertThat(sampler.maxWorkersInCall).as("Riot 응답을 기다린 Tomcat 워커 수").isZero();
+        // 응답 시간 비교는 CPU 2개 이상에서만 - 부하 드라이버, Riot 대역, 서버가 한 JVM이라 CPU가 하나면
+        // 워커 격리가 아니라 CPU 경합(bcrypt 로그인, JSON 처리)을 재게 됨
+        if (Runtime.getRuntime().availableProcessors() >= 2) {
+            // 평소 p95의 3배 (짧은 응답의 측정 잡음을 감안해 최소 +100ms) 안쪽이면 영향 없는 것으로 본다
+            assertThat(boardsBusy.p95Millis()).isLessThan(Math.max(boardsIdle.p95Millis() * 3, boardsIdle.p95Millis() + 100));
+            assertThat(loginBusy.p95Millis()).isLessThan(Math.max(loginIdle.p95Millis() * 3, loginIdle.p95Millis() + 100));
+        }
+    }
+
+    /**
+     * 스레드 덤프를 주기적으로 떠서 RestTemplate 호출 중인(= Riot 응답을 기다리는) 스레드 수의 최댓값을 셈
+     * - Tomcat 워커: 이름에 "-exec-" (http-nio-...-exec-N)
+     * - Riot 조회 풀: riot- (riot-request-, riot-fetch-{지역}- 등)
+     */
+    private static final class RiotCallSampler implements Runnable {
+
+        private final Thread thread = new Thread(this, "riot-call-sampler");
+        private volatile boolean running = true;
+        private volatile int samples;
+        private volatile int maxWorkersInCall;
+        private volatile int maxPoolThreadsInCall;
+
+        static RiotCallSampler start() {
+            RiotCallSampler sampler = new RiotCallSampler();
+            sampler.thread.setDaemon(true);
+            sampler.thread.start();
+            return sampler;
+        }
+
+        void stop() throws InterruptedException {
+            running = false;
+            thread.join();
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                int workers = 0;
+                int poolThreads = 0;
+                for (Map.Entry<Thread, StackTraceElement[]> entry : Thread.getAllStackTraces().entrySet()) {
+                    if (!inRiotCall(entry.getValue())) {
+                        continue;
+                    }
+                    String name = entry.getKey().getName();
+                    if (name.contains("-exec-")) {
+                        workers++;
+                    } else if (name.startsWith("riot-")) {
+                        poolThreads++;
+                    }
+                }
+                samples++;
+                maxWorkersInCall = Math.max(maxWorkersInCall, workers);
+                maxPoolThreadsInCall = Math.max(maxPoolThreadsInCall, poolThreads);
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private static boolean inRiotCall(StackTraceElement[] stack) {
+            for (StackTraceElement frame : stack) {
+                if (frame.getClassName().equals("org.springframework.web.client.RestTemplate")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("스레드 덤프 %d회: Riot 호출 중인 Tomcat 워커 최대 %d개, Riot 조회 풀 스레드 최대 %d개",
+                    samples, maxWorkersInCall, maxPoolThreadsInCall);
+        }
+    }
+
+    /**
+     * 경기 상세 병렬 조회 효과: 페이지 하나(경기 ID 1번 + 상세 20개)의 응답 시간을 요청당 동시 상세 조회 수별로 비교
+     * 순차(1)면 대략 21 x RTT, 전부 동시(20)면 경기 ID + 상세 한 번 = 대략 2 x RTT
+     * (매번 처음 보는 구간을 새 경기부터 거꾸로 받아서 아카이브/인덱스 적중과 통계 밀어내기가 끼지 않음)
+     * 지연 고정으로 재려면: -Dload.latency-sigma=0 -Dload.throttle-rate=0 -Dload.error-rate=0
+     */
+    @Test
+    void riot_경기_상세_병렬_조회_지연() throws Exception {
+        int pageSize = 20;
+        int rounds = Integer.getInteger("load.fanout-rounds", 10);
+        int original = (int) ReflectionTestUtils.getField(riotApiService, "perRequestConcurrency");
+        int originalPrefetch = (int) ReflectionTestUtils.getField(riotApiService, "prefetchPages");
+        List<LoadDriver.Result> results = new ArrayList<>();
+        try {
+            ReflectionTestUtils.setField(riotApiService, "prefetchPages", 0);
+            int[] concurrencies = {1, 4, pageSize};
+            for (int run = 0; run < concurrencies.length; run++) {
+                int concurrency = concurrencies[run];
+                int base = 1_000_000 - run * 100_000;
+                ReflectionTestUtils.setField(riotApiService, "perRequestConcurrency", concurrency);
+                results.add(driver.run("page size=20 (상세 동시 " + concurrency + ")", 1, rounds,
+                        i -> get("/api/riot/player/Player9/KR1/matches/page?size=" + pageSize
+                                + "&cursor=" + cursor(base + (rounds - i) * pageSize))));
+            }
+        } finally {
+            ReflectionTestUtils.setField(riotApiService, "perRequestConcurrency", original);
+            ReflectionTestUtils.setField(riotApiService, "prefetchPages", originalPrefetch);
+        }
+
+        System.out.println();
+        System.out.println("==== 경기 상세 병렬 조회 (Riot 대역 지연 p50 " + Long.getLong("load.latency-median-ms", 60L)
+                + "ms, 페이지당 Riot 호출 " + (pageSize + 1) + "번) ====");
+        results.forEach(System.out::println);
+
+        assertThat(results).allSatisfy(result -> assertThat(result.failures()).as(result.name()).isZero());
+        // 전부 동시에 보내면 순차보다 확실히 빨라야 함 (21 x RTT → 2 x RTT)
+        assertThat(results.get(2).p50Millis()).isLessThan(results.get(0).p50Millis() / 3);
+    }
+
+    private static String cursor(int start) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("s:" + start).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 깊은 페이지 조회: 플레이어마다 size=100 페이지를 nextCursor를 따라 5번 (500경기) 연달아 받는 시간
+     * (다음 페이지 선조회가 지역 조회 풀에서 앞서 나가는 경로)
+     */
+    @Test
+    void riot_페이지_깊은_조회() throws Exception {
+        int pages = 5;
+        int players = Integer.getInteger("load.paging-players", 8);
+        int concurrency = Integer.getInteger("load.paging-concurrency", 1);
+        HttpClient client = HttpClient.newHttpClient();
+        long riotCallsBefore = STAND_IN.getRequests();
+
+        LoadDriver.Result pulls = driver.runTasks("matches/page x" + pages + " (size=100)", concurrency, players, i -> {
+            String cursor = "";
+            for (int page = 0; page < pages; page++) {
+                HttpResponse<String> response = client.send(get("/api/riot/player/Player" + i + "/KR1/matches/page?size=100"
+                        + (cursor.isEmpty() ? "" : "&cursor=" + cursor)), HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() >= 400) {
+                    return false;
+                }
+                JsonNode data = objectMapper.readTree(response.body()).path("data");
+                assertThat(data.path("matches").size() + data.path("failedMatchIds").size()).isEqualTo(100);
+                cursor = data.path("nextCursor").asText("");
+            }
+            return true;
+        });
+
+        System.out.println();
+        System.out.println("==== 깊은 페이지 조회 (플레이어당 " + pages * 100 + "경기, Riot 대역 지연 p50 "
+                + Long.getLong("load.latency-median-ms", 60L) + "ms) ====");
+        System.out.println(pulls);
+        System.out.printf("Riot 대역 호출: %d (플레이어당 %.1f)%n", STAND_IN.getRequests() - riotCallsBefore,
+                (STAND_IN.getRequests() - riotCallsBefore) / (double) players);
+
+        assertThat(pulls.failures()).isLessThanOrEqualTo((int) Math.ceil(players * pages
+                * (THROTTLE_RATE + ERROR_RATE) * FAILURE_ALLOWANCE));
+    }
+
+    private HttpRequest loginRequest() {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"load_tester\",\"password\":\"Load!Test123\"}"))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpResponse<String> post(HttpClient client, String path, String json) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(json))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,360 @@
+package com.example.demo.riot.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * 🧪 로컬 Riot API 대역 (오프라인 부하 테스트용)
+ *
+ * 실제 API 키 없이 RiotApiService를 돌려보기 위한 내장 HTTP 서버 (JDK HttpServer, 외부 의존성 없음)
+ * - account-v1: Riot ID → 고정 puuid 10개 중 하나 (PlayerN#KR1 → standin-puuid-(N % 10))
+ * - match-v5 ids: 플레이어마다 조금씩 겹치는 경기 ID 목록 (같은 경기 중복 조회 상황 재현)
+ * - match-v5 detail: 녹화해 둔 경기 원본(match-template.json)에 matchId/gameCreation만 바꿔서 응답
+ * - 응답 지연 분포, 429(Retry-After + 한도 헤더), 5xx 오류 비율 설정 가능
+ *
+ * 사용법: RiotStandIn standIn = RiotStandIn.builder().latency(LatencyModel.logNormal(60, 0.5)).build().start();
+ *        → riot.base-url=standIn.baseUrl()
+ */
+public class RiotStandIn implements AutoCloseable {
+
+    static final int PLAYER_COUNT = 10;
+    private static final long NEWEST_MATCH = 7_000_000_000L;
+    private static final long NEWEST_CREATION = 1_760_000_000_000L;
+
+    private final LatencyModel latency;
+    private final double throttleRate;
+    private final double errorRate;
+    private final String appRateLimit;
+    private final int workers;
+    private final String[] templateParts;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final Map<String, AtomicLong> requestsByRoute = new HashMap<>();
+    private final Set<String> clientConnections = ConcurrentHashMap.newKeySet(); // 클라이언트 주소:포트 = TCP 연결
+    private final FixedWindow secondWindow = new FixedWindow(1_000L);
+    private final FixedWindow longWindow = new FixedWindow(120_000L);
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private RiotStandIn(Builder builder) {
+        this.latency = builder.latency;
+        this.throttleRate = builder.throttleRate;
+        this.errorRate = builder.errorRate;
+        this.appRateLimit = builder.appRateLimit;
+        this.workers = builder.workers;
+        this.templateParts = loadTemplate();
+        for (String route : new String[]{"account-v1", "match-v5-ids", "match-v5-detail", "other"}) {
+            requestsByRoute.put(route, new AtomicLong());
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public RiotStandIn start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        executor = Executors.newFixedThreadPool(workers);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        return this;
+    }
+
+    /**
+     * riot.base-url 값 ({region}은 무시하고 항상 이 서버로)
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getThrottled() {
+        return throttled.get();
+    }
+
+    public long getErrors() {
+        return errors.get();
+    }
+
+    public long getRequests(String route) {
+        return requestsByRoute.get(route).get();
+    }
+
+    /**
+     * 지금까지 받은 TCP 연결 수 (클라이언트 포트 기준 - keep-alive로 재사용하면 늘지 않음)
+     */
+    public int getConnections() {
+        return clientConnections.size();
+    }
+
+    /**
+     * 플레이어 n의 puuid
+     */
+    public static String puuid(int player) {
+        return "standin-puuid-" + Math.floorMod(player, PLAYER_COUNT);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            clientConnections.add(exchange.getRemoteAddress().toString());
+            String path = exchange.getRequestURI().getPath();
+            requestsByRoute.get(routeOf(path)).incrementAndGet();
+
+            Random random = ThreadLocalRandom.current();
+            sleep(latency.sampleMillis(random));
+
+            long now = System.currentTimeMillis();
+            exchange.getResponseHeaders().set("X-App-Rate-Limit", appRateLimit);
+            exchange.getResponseHeaders().set("X-App-Rate-Limit-Count",
+                    secondWindow.increment(now) + ":1," + longWindow.increment(now) + ":120");
+
+            if (random.nextDouble() < throttleRate) {
+                throttled.incrementAndGet();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                exchange.getResponseHeaders().set("X-Rate-Limit-Type", "method");
+                send(exchange, 429, "{\"status\":{\"message\":\"Rate limit exceeded\",\"status_code\":429}}");
+                return;
+            }
+            if (random.nextDouble() < errorRate) {
+                errors.incrementAndGet();
+                send(exchange, 503, "{\"status\":{\"message\":\"Service unavailable\",\"status_code\":503}}");
+                return;
+            }
+            route(exchange, path);
+        }
+    }
+
+    private void route(HttpExchange exchange, String path) throws IOException {
+        String[] segments = path.split("/");
+        if (path.startsWith("/riot/account/v1/accounts/by-riot-id/") && segments.length == 8) {
+            String gameName = URLDecoder.decode(segments[6], StandardCharsets.UTF_8);
+            String tagLine = URLDecoder.decode(segments[7], StandardCharsets.UTF_8);
+            int player = playerOf(gameName);
+            if (player < 0) {
+                send(exchange, 404, "{\"status\":{\"message\":\"Data not found\",\"status_code\":404}}");
+                return;
+            }
+            send(exchange, 200, String.format("{\"puuid\":\"%s\",\"gameName\":\"%s\",\"tagLine\":\"%s\"}",
+                    puuid(player), gameName, tagLine));
+        } else if (path.startsWith("/lol/match/v5/matches/by-puuid/") && path.endsWith("/ids")) {
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            send(exchange, 200, matchIds(segments[6],
+                    Integer.parseInt(query.getOrDefault("start", "0")),
+                    Integer.parseInt(query.getOrDefault("count", "20"))));
+        } else if (path.startsWith("/lol/match/v5/matches/") && segments.length == 6) {
+            send(exchange, 200, matchPayload(segments[5]));
+        } else {
+            send(exchange, 404, "{\"status\":{\"message\":\"Not found\",\"status_code\":404}}");
+        }
+    }
+
+    /**
+     * 플레이어 k는 (최신 경기 - 2k)부터 거꾸로 - 이웃 플레이어끼리 경기 대부분이 겹침
+     */
+    private String matchIds(String puuid, int start, int count) {
+        int player = Integer.parseInt(puuid.substring(puuid.lastIndexOf('-') + 1));
+        StringBuilder json = new StringBuilder(count * 16).append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\"KR_").append(NEWEST_MATCH - player * 2L - start - i).append('"');
+        }
+        return json.append(']').toString();
+    }
+
+    private String matchPayload(String matchId) {
+        long number = Long.parseLong(matchId.substring(matchId.indexOf('_') + 1));
+        long gameCreation = NEWEST_CREATION - (NEWEST_MATCH - number) * 1_800_000L;
+        return templateParts[0] + matchId + templateParts[1] + gameCreation + templateParts[2];
+    }
+
+    /**
+     * "Player7" → 7, 그 외 이름은 없는 계정(404)
+     */
+    private static int playerOf(String gameName) {
+        String name = gameName.toLowerCase(Locale.ROOT);
+        if (!name.startsWith("player")) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(name.substring(6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String routeOf(String path) {
+        if (path.startsWith("/riot/account/v1/")) {
+            return "account-v1";
+        }
+        if (path.startsWith("/lol/match/v5/matches/by-puuid/")) {
+            return "match-v5-ids";
+        }
+        if (path.startsWith("/lol/match/v5/matches/")) {
+            return "match-v5-detail";
+        }
+        return "other";
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * match-template.json을 {{matchId}}, {{gameCreation}} 기준으로 미리 잘라둠
+     */
+    private static String[] loadTemplate() {
+        try (InputStream in = RiotStandIn.class.getResourceAsStream("/riot-standin/match-template.json")) {
+            if (in == null) {
+                throw new IllegalStateException("riot-standin/match-template.json 이 없습니다");
+            }
+            String template = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            int id = template.indexOf("{{matchId}}");
+            int creation = template.indexOf("{{gameCreation}}");
+            return new String[]{
+                    template.substring(0, id),
+                    template.substring(id + "{{matchId}}".length(), creation),
+                    template.substring(creation + "{{gameCreation}}".length())
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * X-App-Rate-Limit-Count 헤더용 고정 윈도우 카운터
+     */
+    private static class FixedWindow {
+        private final long windowMillis;
+        private long windowStart;
+        private long count;
+
+        FixedWindow(long windowMillis) {
+            this.windowMillis = windowMillis;
+        }
+
+        synchronized long increment(long now) {
+            if (now - windowStart >= windowMillis) {
+                windowStart = now;
+                count = 0;
+            }
+            return ++count;
+        }
+    }
+
+    public static class Builder {
+        private LatencyModel latency = LatencyModel.none();
+        private double throttleRate;
+        private double errorRate;
+        private String appRateLimit = "5000:1,300000:120";
+        private int workers = 64;
+
+        public Builder latency(LatencyModel latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * 429 응답 비율 (0.0 ~ 1.0)
+         */
+        public Builder throttleRate(double throttleRate) {
+            this.throttleRate = throttleRate;
+            return this;
+        }
+
+        /**
+         * 503 응답 비율 (0.0 ~ 1.0)
+         */
+        public Builder errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        /**
+         * 응답에 실어 보낼 X-App-Rate-Limit (기본값은 부하 테스트가 한도에 막히지 않을 만큼 넉넉하게)
+         */
+        public Builder appRateLimit(String appRateLimit) {
+            this.appRateLimit = appRateLimit;
+            return this;
+        }
+
+        public Builder workers(int workers) {
+            this.workers = workers;
+            return this;
+        }
+
+        public RiotStandIn build() {
+            return new RiotStandIn(this);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.riot.standin;
+
+import com.example.demo.configuration.RiotRestTemplateConfig;
+import com.example.demo.riot.RiotRegionRouting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 🧪 Riot 호출 전송 계층 비교: 예전 new RestTemplate() (HttpURLConnection, keep-alive 캐시 5개)
+ *    vs riotRequestFactory (지역별 HttpClient 5 커넥션 풀)
+ *
+ * 전송 방식마다 대역을 따로 띄워 같은 match-v5 상세 요청을 보내고, 대역이 받은 TCP 연결 수 + 처리량/응답 시간을 출력한다.
+ * 대역은 평문 HTTP라 TLS 핸드셰이크 비용은 재지 않음 - 실제 API에서는 새 연결 하나가 핸드셰이크 한 번
+ * 실행: ./gradlew loadTest --tests '*RiotTransportLoadTest*' -Dload.transport-requests=2000 -Dload.transport-concurrency=32
+ */
+@Tag("load")
+class RiotTransportLoadTest {
+
+    private static final int REQUESTS = Integer.getInteger("load.transport-requests", 2000);
+    private static final int CONCURRENCY = Integer.getInteger("load.transport-concurrency", 32);
+    private static final long LATENCY_MS = Long.getLong("load.transport-latency-ms", 5);
+
+    private final LoadDriver driver = new LoadDriver();
+
+    @Test
+    void pooledTransportReusesConnections() throws Exception {
+        Measurement simple = measure("HttpURLConnection (예전)", standIn -> new RestTemplate());
+        Measurement pooled = measure("HttpClient 5 풀 (riotRequestFactory)",
+                standIn -> new RestTemplate(pooledFactory(standIn)));
+
+        System.out.println();
+        System.out.println("==== Riot 전송 계층 비교 (대역 지연 " + LATENCY_MS + "ms) ====");
+        System.out.println(simple);
+        System.out.println(pooled);
+
+        assertThat(pooled.result().failures()).isZero();
+        assertThat(pooled.connections()).isLessThan(simple.connections());
+    }
+
+    private Measurement measure(String name, TransportFactory transport) throws Exception {
+        try (RiotStandIn standIn = RiotStandIn.builder()
+                .latency(LatencyModel.fixed(LATENCY_MS))
+                .build()
+                .start()) {
+            RestTemplate restTemplate = transport.create(standIn);
+            String url = standIn.baseUrl() + "/lol/match/v5/matches/KR_";
+            LoadDriver.Result result = driver.runTasks(name, CONCURRENCY, REQUESTS,
+                    i -> restTemplate.getForObject(url + (7_000_000_000L - i % 500), String.class) != null);
+            return new Measurement(result, standIn.getConnections());
+        }
+    }
+
+    /**
+     * 운영 설정 기본값 그대로 만든 지역별 풀 팩토리 ({region}이 없는 대역 주소라 모두 기본 지역 풀로 감)
+     */
+    private static ClientHttpRequestFactory pooledFactory(RiotStandIn standIn) {
+        RiotRestTemplateConfig config = new RiotRestTemplateConfig();
+        ReflectionTestUtils.setField(config, "maxConnections", 100);
+        ReflectionTestUtils.setField(config, "maxConnectionsPerRoute", 20);
+        ReflectionTestUtils.setField(config, "connectTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(config, "readTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(config, "poolWaitTimeoutMs", 3000L);
+        ReflectionTestUtils.setField(config, "idleEvictionSeconds", 30L);
+        return config.riotRequestFactory(new RiotRegionRouting("asia", standIn.baseUrl()), new SimpleMeterRegistry());
+    }
+
+    @FunctionalInterface
+    private interface TransportFactory {
+        RestTemplate create(RiotStandIn standIn);
+    }
+
+    private record Measurement(LoadDriver.Result result, int connections) {
+
+        @Override
+        public String toString() {
+            return result + String.format("  연결=%d (요청 %.1f개/연결)",
+                    connections, result.requests() / (double) connections);
+        }
+    }
+}
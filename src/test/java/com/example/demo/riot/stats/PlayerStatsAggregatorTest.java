@@ -0,0 +1,141 @@
+package com.example.demo.riot.stats;
+
+import com.example.demo.riot.dto.MatchDetailResponse;
+import com.example.demo.riot.dto.MatchStatsResponse;
+import com.example.demo.riot.gamedata.GameDataRegistry;
+import com.example.demo.riot.parser.MatchSummary;
+import com.example.demo.riot.parser.ParticipantStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 증분 집계 결과가 경기 목록을 처음부터 계산한 결과와 같은지 확인
+ */
+@DataJpaTest
+@Import({PlayerStatsAggregator.class, GameDataRegistry.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class PlayerStatsAggregatorTest {
+
+    private static final String PUUID = "test-puuid";
+    private static final int MATCH_COUNT = 150;
+
+    @Autowired
+    private PlayerStatsAggregator aggregator;
+
+    @Autowired
+    private GameDataRegistry gameData;
+
+    private final List<MatchSummary> matches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        long start = ZonedDateTime.of(2024, 10, 1, 12, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli();
+        Random random = new Random(42);
+        for (int i = 0; i < MATCH_COUNT; i++) {
+            ParticipantStats player = new ParticipantStats();
+            player.setPuuid(PUUID);
+            // 짝수 경기는 모두 같은 챔피언 → 어느 구간이든 주력 챔피언이 하나로 정해짐
+            player.setChampionId(i % 2 == 0 ? 103 : 1 + (i / 2) % 5);
+            player.setWin(random.nextBoolean());
+            player.setKills(random.nextInt(15));
+            player.setDeaths(random.nextInt(10));
+            player.setAssists(random.nextInt(20));
+
+            ParticipantStats other = new ParticipantStats();
+            other.setPuuid("other-puuid");
+            other.setChampionId(7);
+
+            MatchSummary match = new MatchSummary();
+            match.setMatchId("KR_" + (1000 + i));
+            match.setGameCreation(start + i * 2L * 24 * 60 * 60 * 1000);
+            match.setQueueId(i % 3 == 0 ? 440 : 420);
+            match.getParticipants().add(other);
+            match.getParticipants().add(player);
+            matches.add(match);
+        }
+    }
+
+    @Test
+    void 순서없이_반영해도_처음부터_계산한_결과와_같다() {
+        // 페이징/선조회처럼 과거 경기가 뒤늦게 들어오는 상황 + 같은 경기 중복 반영
+        List<MatchSummary> shuffled = new ArrayList<>(matches);
+        Collections.shuffle(shuffled, new Random(7));
+        for (int from = 0; from < shuffled.size(); from += 10) {
+            aggregator.ingest(PUUID, shuffled.subList(from, Math.min(from + 10, shuffled.size())));
+        }
+        aggregator.ingest(PUUID, matches.subList(0, 30));
+
+        assertSame(aggregator.recentStats(PUUID, 20), expected(newest(20)));
+        assertSame(aggregator.recentStats(PUUID, 100), expected(newest(100)));
+        assertSame(aggregator.recentStats(PUUID, 500), expected(newest(MATCH_COUNT)));
+        assertSame(aggregator.overallStats(PUUID), expected(matches));
+        assertSame(aggregator.seasonStats(PUUID, 2024), expected(season(2024)));
+        assertSame(aggregator.seasonStats(PUUID, 2025), expected(season(2025)));
+        assertSame(aggregator.queueStats(PUUID, 440),
+                expected(matches.stream().filter(m -> m.getQueueId() == 440).toList()), false);
+    }
+
+    @Test
+    void 반영된_경기가_없으면_빈_통계() {
+        assertThat(aggregator.recentStats(PUUID, 20).getTotalGames()).isZero();
+        assertThat(aggregator.overallStats(PUUID).getMostPlayedChampion()).isEqualTo("없음");
+    }
+
+    private List<MatchSummary> newest(int count) {
+        return matches.stream()
+                .sorted(Comparator.comparingLong(MatchSummary::getGameCreation).reversed())
+                .limit(count)
+                .toList();
+    }
+
+    private List<MatchSummary> season(int year) {
+        return matches.stream()
+                .filter(m -> PlayerStatsAggregator.seasonOf(m.getGameCreation()) == year)
+                .toList();
+    }
+
+    private MatchStatsResponse expected(List<MatchSummary> subset) {
+        List<MatchDetailResponse> details = subset.stream()
+                .map(match -> {
+                    ParticipantStats player = match.findParticipant(PUUID).orElseThrow();
+                    return MatchDetailResponse.builder()
+                            .matchId(match.getMatchId())
+                            .championName(gameData.championName(player.getChampionId()))
+                            .victory(player.isWin())
+                            .kills(player.getKills())
+                            .deaths(player.getDeaths())
+                            .assists(player.getAssists())
+                            .build();
+                })
+                .toList();
+        return MatchStatsCalculator.fromMatches(details);
+    }
+
+    private static void assertSame(MatchStatsResponse actual, MatchStatsResponse expected) {
+        assertSame(actual, expected, true);
+    }
+
+    private static void assertSame(MatchStatsResponse actual, MatchStatsResponse expected, boolean withChampion) {
+        // 큐별 통계는 주력 챔피언을 따로 집계하지 않음
+        if (withChampion) {
+            assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        } else {
+            assertThat(actual).usingRecursiveComparison().ignoringFields("mostPlayedChampion").isEqualTo(expected);
+        }
+    }
+}